@@ -0,0 +1,63 @@
+package com.automation.framework.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Browsers the framework can launch. Configuration validation and
+ * DriverFactory both read this enum, so the accepted names and the
+ * launched drivers cannot drift apart.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public enum BrowserType {
+    CHROME,
+    FIREFOX,
+    EDGE,
+    SAFARI,
+    REMOTE;
+
+    private static final List<String> NAMES;
+
+    static {
+        List<String> names = new ArrayList<>();
+        for (BrowserType type : values()) {
+            names.add(type.getName());
+        }
+        NAMES = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Get the name used in browser.default
+     * @return Lower-case browser name
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Get the names of all supported browsers
+     * @return Lower-case browser names
+     */
+    public static List<String> names() {
+        return NAMES;
+    }
+
+    /**
+     * Parse a browser name
+     * @param name Browser name, case-insensitive
+     * @return Browser type
+     */
+    public static BrowserType fromName(String name) {
+        if (name != null) {
+            for (BrowserType type : values()) {
+                if (type.getName().equalsIgnoreCase(name.trim())) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Browser not supported: " + name + " (expected one of " + NAMES + ")");
+    }
+}
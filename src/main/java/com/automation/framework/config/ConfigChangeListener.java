@@ -0,0 +1,19 @@
+package com.automation.framework.config;
+
+/**
+ * Notified after a reloaded configuration has been validated and swapped in.
+ * Called on the reloading thread, never concurrently with another reload.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Configuration changed
+     * @param previous Snapshot that was replaced
+     * @param current Snapshot now returned by ConfigManager
+     */
+    void configChanged(ConfigSnapshot previous, ConfigSnapshot current);
+}
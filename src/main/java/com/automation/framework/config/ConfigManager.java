@@ -5,12 +5,25 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.Properties;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Configuration Manager for handling application properties and settings
+ * Configuration Manager for handling application properties and settings.
+ * The instance is created once, on first use, by the class loader (holder
+ * idiom), so concurrent callers never race on initialization. Defaults,
+ * config files, environment variables and system properties are resolved
+ * once by ConfigResolver into an immutable ConfigSnapshot; invalid values
+ * fail the load instead of surfacing later as parse errors or defaults.
+ * With config.hot.reload enabled the config files are watched; a changed
+ * configuration is validated first and then swapped in with a single
+ * volatile write, so readers never block or see a partly applied reload.
  * 
  * @author Automation Framework
  * @version 1.0
@@ -18,15 +31,18 @@ import java.util.Properties;
 public class ConfigManager {
     
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static Properties properties;
-    private static ConfigManager instance;
+    private volatile ConfigSnapshot snapshot;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
     
     // Configuration file paths
-    private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
     private static final String TEST_DATA_PATH = "src/test/resources/testdata/";
     
     private ConfigManager() {
-        loadProperties();
+        snapshot = ConfigResolver.resolve();
+        if (getBooleanProperty("config.hot.reload", false)) {
+            ConfigWatcher.start(this, Paths.get(getProperty("config.hot.reload.dir", "src/test/resources")),
+                snapshot.getEnvironment());
+        }
     }
     
     /**
@@ -34,45 +50,88 @@ public class ConfigManager {
      * @return ConfigManager instance
      */
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            synchronized (ConfigManager.class) {
-                if (instance == null) {
-                    instance = new ConfigManager();
-                }
-            }
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Lazily initialized on first access to getInstance
+     */
+    private static class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
+    }
+    
+    /**
+     * Get typed configuration snapshot
+     * @return Immutable snapshot built at load time
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * Register a listener notified after each configuration change
+     * @param listener Listener
+     */
+    public void addChangeListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Remove a change listener
+     * @param listener Listener
+     */
+    public void removeChangeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
     }
     
     /**
-     * Load properties from configuration file
+     * Resolve the configuration again from a directory of config files and
+     * swap it in if it is valid and differs from the current one. An invalid
+     * configuration is logged and the current one is kept.
+     * @param directory Directory holding the config files
+     * @return true if a new configuration was applied
      */
-    private void loadProperties() {
-        properties = new Properties();
+    public synchronized boolean reload(Path directory) {
+        ConfigSnapshot current;
         try {
-            FileInputStream fis = new FileInputStream(CONFIG_FILE_PATH);
-            properties.load(fis);
-            fis.close();
-            logger.info("Configuration properties loaded successfully");
-        } catch (IOException e) {
-            logger.error("Failed to load configuration properties: " + e.getMessage());
-            // Load default properties if config file not found
-            loadDefaultProperties();
+            current = ConfigResolver.resolve(directory);
+        } catch (IllegalStateException e) {
+            logger.error("Configuration reload rejected, keeping current configuration. " + e.getMessage());
+            return false;
+        }
+        
+        ConfigSnapshot previous = snapshot;
+        Set<String> changed = changedKeys(previous, current);
+        if (changed.isEmpty()) {
+            logger.debug("Configuration files changed but no values differ");
+            return false;
         }
+        snapshot = current;
+        logger.info("Configuration reloaded, changed keys: " + changed);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.configChanged(previous, current);
+            } catch (Exception e) {
+                logger.error("Config change listener failed: " + e.getMessage(), e);
+            }
+        }
+        return true;
+    }
+    
+    private static Set<String> changedKeys(ConfigSnapshot previous, ConfigSnapshot current) {
+        Set<String> keys = new TreeSet<>(previous.getValues().keySet());
+        keys.addAll(current.getValues().keySet());
+        keys.removeIf(key -> Objects.equals(previous.get(key), current.get(key)));
+        return keys;
     }
     
     /**
-     * Load default properties if config file is not available
+     * Get where a property value came from
+     * @param key Property key
+     * @return Source (defaults, config file, environment variable or system property), or null if not set
      */
-    private void loadDefaultProperties() {
-        properties.setProperty("browser", "chrome");
-        properties.setProperty("headless", "false");
-        properties.setProperty("implicit.wait", "10");
-        properties.setProperty("explicit.wait", "20");
-        properties.setProperty("page.load.timeout", "30");
-        properties.setProperty("base.url", "https://www.google.com");
-        properties.setProperty("screenshot.on.failure", "true");
-        logger.info("Default properties loaded");
+    public String getSource(String key) {
+        return snapshot.getSource(key);
     }
     
     /**
@@ -81,7 +140,7 @@ public class ConfigManager {
      * @return Property value
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.get(key);
     }
     
     /**
@@ -91,7 +150,8 @@ public class ConfigManager {
      * @return Property value or default value
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = snapshot.get(key);
+        return value != null ? value : defaultValue;
     }
     
     /**
@@ -112,12 +172,34 @@ public class ConfigManager {
         return Boolean.parseBoolean(getProperty(key));
     }
     
+    /**
+     * Get integer property value with default
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Integer value or default value
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+    
+    /**
+     * Get boolean property value with default
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Boolean value or default value
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+    
     /**
      * Get browser name from properties
      * @return Browser name
      */
     public String getBrowser() {
-        return getProperty("browser", "chrome").toLowerCase();
+        return snapshot.getBrowser();
     }
     
     /**
@@ -125,7 +207,7 @@ public class ConfigManager {
      * @return true if headless mode is enabled
      */
     public boolean isHeadless() {
-        return getBooleanProperty("headless");
+        return snapshot.isHeadless();
     }
     
     /**
@@ -133,7 +215,7 @@ public class ConfigManager {
      * @return Base URL
      */
     public String getBaseUrl() {
-        return getProperty("base.url");
+        return snapshot.getBaseUrl().toString();
     }
     
     /**
@@ -141,7 +223,7 @@ public class ConfigManager {
      * @return Implicit wait timeout in seconds
      */
     public int getImplicitWait() {
-        return getIntProperty("browser.implicit.wait");
+        return (int) snapshot.getImplicitWait().getSeconds();
     }
     
     /**
@@ -149,7 +231,7 @@ public class ConfigManager {
      * @return Explicit wait timeout in seconds
      */
     public int getExplicitWait() {
-        return getIntProperty("browser.explicit.wait");
+        return (int) snapshot.getExplicitWait().getSeconds();
     }
     
     /**
@@ -157,7 +239,7 @@ public class ConfigManager {
      * @return Page load timeout in seconds
      */
     public int getPageLoadTimeout() {
-        return getIntProperty("browser.page.load.timeout");
+        return (int) snapshot.getPageLoadTimeout().getSeconds();
     }
     
     /**
@@ -165,7 +247,7 @@ public class ConfigManager {
      * @return true if screenshot on failure is enabled
      */
     public boolean isScreenshotOnFailure() {
-        return getBooleanProperty("screenshot.on.failure");
+        return snapshot.isScreenshotOnFailure();
     }
     
     /**
@@ -192,8 +274,6 @@ public class ConfigManager {
      * @return Environment specific property value
      */
     public String getEnvironmentProperty(String key) {
-        String env = System.getProperty("env", "dev");
-        String envKey = env + "." + key;
-        return getProperty(envKey, getProperty(key));
+        return snapshot.getEnvironmentValue(key);
     }
 }
\ No newline at end of file
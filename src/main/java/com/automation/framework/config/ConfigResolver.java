@@ -0,0 +1,236 @@
+package com.automation.framework.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Resolves configuration once from layered sources, each overriding the
+ * previous one: built-in defaults, config.properties, config-&lt;env&gt;.properties,
+ * environment variables and system properties. Files are looked up on the
+ * classpath first and then under src/test/resources, or only in a given
+ * directory when reloading from watched files. Environment variables
+ * and system properties only override keys known from the lower layers
+ * (environment variable name: key upper-cased with dots as underscores,
+ * e.g. BROWSER_HEADLESS). Legacy key names are mapped to the current key
+ * in files and system properties; they are not read from the environment,
+ * where names like BROWSER or BASE_URL are often set for other tools.
+ * The source of every value is recorded.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+final class ConfigResolver {
+
+    private static final Logger logger = LogManager.getLogger(ConfigResolver.class);
+    private static final String CONFIG_FILE = "config.properties";
+    private static final String CONFIG_DIR = "src/test/resources/";
+
+    /**
+     * Current key to legacy alias read by earlier versions of ConfigManager
+     */
+    private static final Map<String, String> ALIASES = new LinkedHashMap<>();
+
+    static {
+        ALIASES.put("browser.default", "browser");
+        ALIASES.put("browser.headless", "headless");
+        ALIASES.put("browser.implicit.wait", "implicit.wait");
+        ALIASES.put("browser.explicit.wait", "explicit.wait");
+        ALIASES.put("browser.page.load.timeout", "page.load.timeout");
+        ALIASES.put("url.base", "base.url");
+        ALIASES.put("report.screenshots.on.failure", "screenshot.on.failure");
+    }
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+    private final Map<String, String> sources = new LinkedHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+    private final Path directory;
+
+    private ConfigResolver(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Resolve all layers into a validated snapshot
+     * @return Configuration snapshot
+     * @throws IllegalStateException listing every invalid or conflicting key
+     */
+    static ConfigSnapshot resolve() {
+        return resolve(null);
+    }
+
+    /**
+     * Resolve all layers, reading the config files from one directory only
+     * @param directory Directory holding the config files, or null for classpath then src/test/resources
+     * @return Configuration snapshot
+     * @throws IllegalStateException listing every invalid or conflicting key
+     */
+    static ConfigSnapshot resolve(Path directory) {
+        ConfigResolver resolver = new ConfigResolver(directory);
+        String environment = environment();
+
+        resolver.apply("defaults", defaults());
+        if (!resolver.applyFile(CONFIG_FILE)) {
+            logger.error("Configuration file " + CONFIG_FILE + " not found, using defaults");
+        }
+        resolver.applyFile("config-" + environment + ".properties");
+        resolver.apply("environment variable", resolver.fromEnvironment());
+        resolver.apply("system property", resolver.fromSystemProperties());
+
+        ConfigSnapshot snapshot = ConfigSnapshot.from(resolver.values, resolver.sources, environment,
+            resolver.errors);
+        logger.info("Configuration resolved for environment '" + environment + "' from " + resolver.describeLayers());
+        return snapshot;
+    }
+
+    /**
+     * Environment name from -Denv or the ENV variable, dev by default
+     * @return Environment name
+     */
+    static String environment() {
+        String env = System.getProperty("env");
+        if (env == null) {
+            env = System.getenv("ENV");
+        }
+        return env == null || env.isBlank() ? "dev" : env.trim();
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("browser.default", "chrome");
+        defaults.put("browser.headless", "false");
+        defaults.put("browser.implicit.wait", "10");
+        defaults.put("browser.explicit.wait", "20");
+        defaults.put("browser.page.load.timeout", "30");
+        defaults.put("url.base", "https://www.google.com");
+        defaults.put("report.screenshots.on.failure", "true");
+        // Keys read by the code but usually absent from config.properties; listed so -D and env can set them
+        defaults.put("grid.url", "http://localhost:4444/wd/hub");
+        defaults.put("remote.browser", "chrome");
+        defaults.put("driver.binary.manifest",
+            System.getProperty("user.home") + "/.cache/selenium/driver-manifest.properties");
+        return defaults;
+    }
+
+    /**
+     * Apply a properties file from the classpath, or from src/test/resources
+     * @param name File name
+     * @return true if the file was found
+     */
+    private boolean applyFile(String name) {
+        Properties properties = new Properties();
+        String source;
+        URL resource = directory == null ? ConfigResolver.class.getClassLoader().getResource(name) : null;
+        Path path = directory == null ? Paths.get(CONFIG_DIR + name) : directory.resolve(name);
+        try {
+            if (resource != null) {
+                try (InputStream input = resource.openStream()) {
+                    properties.load(input);
+                }
+                source = "classpath:" + name;
+            } else if (Files.exists(path)) {
+                try (InputStream input = Files.newInputStream(path)) {
+                    properties.load(input);
+                }
+                source = path.toString();
+            } else {
+                return false;
+            }
+        } catch (IOException e) {
+            errors.add(name + ": could not be read - " + e.getMessage());
+            return false;
+        }
+        Map<String, String> layer = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            layer.put(key, properties.getProperty(key));
+        }
+        apply(source, layer);
+        return true;
+    }
+
+    /**
+     * Environment variables for every known key; legacy aliases are not read
+     */
+    private Map<String, String> fromEnvironment() {
+        Map<String, String> layer = new LinkedHashMap<>();
+        for (String key : new ArrayList<>(values.keySet())) {
+            String value = System.getenv(key.toUpperCase().replaceAll("[^A-Z0-9]", "_"));
+            if (value != null) {
+                layer.put(key, value);
+            }
+        }
+        return layer;
+    }
+
+    /**
+     * System properties for every known key and alias
+     */
+    private Map<String, String> fromSystemProperties() {
+        Map<String, String> layer = new LinkedHashMap<>();
+        for (String key : knownKeys()) {
+            String value = System.getProperty(key);
+            if (value != null) {
+                layer.put(key, value);
+            }
+        }
+        return layer;
+    }
+
+    private List<String> knownKeys() {
+        List<String> keys = new ArrayList<>(values.keySet());
+        keys.addAll(ALIASES.values());
+        return keys;
+    }
+
+    /**
+     * Overlay one layer, mapping legacy keys to their current name
+     * @param source Layer description recorded as the value source
+     * @param layer Key/value pairs of the layer
+     */
+    private void apply(String source, Map<String, String> layer) {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : layer.entrySet()) {
+            if (!ALIASES.containsValue(entry.getKey())) {
+                normalized.put(entry.getKey(), entry.getValue().trim());
+            }
+        }
+        for (Map.Entry<String, String> alias : ALIASES.entrySet()) {
+            String legacy = layer.get(alias.getValue());
+            if (legacy == null) {
+                continue;
+            }
+            String current = normalized.get(alias.getKey());
+            if (current == null) {
+                logger.warn("Config key '" + alias.getValue() + "' (" + source + ") is deprecated, use '"
+                    + alias.getKey() + "'");
+                normalized.put(alias.getKey(), legacy.trim());
+            } else if (!current.equals(legacy.trim())) {
+                errors.add("'" + alias.getKey() + "=" + current + "' conflicts with legacy key '"
+                    + alias.getValue() + "=" + legacy.trim() + "' (" + source + ")");
+            }
+        }
+        for (Map.Entry<String, String> entry : normalized.entrySet()) {
+            values.put(entry.getKey(), entry.getValue());
+            sources.put(entry.getKey(), source);
+        }
+    }
+
+    private String describeLayers() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String source : sources.values()) {
+            counts.merge(source, 1, Integer::sum);
+        }
+        return counts.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package com.automation.framework.config;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, typed view of the configuration, parsed and validated once
+ * when the configuration is resolved. Reads are plain field or map accesses
+ * with no locking. Values prefixed with the environment name
+ * (e.g. staging.url.base) are folded into a separate environment view.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public final class ConfigSnapshot {
+
+    private final Map<String, String> values;
+    private final Map<String, String> environmentValues;
+    private final Map<String, String> sources;
+    private final String environment;
+    private final String browser;
+    private final boolean headless;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pageLoadTimeout;
+    private final URL baseUrl;
+    private final boolean screenshotOnFailure;
+    private final DriverScope driverScope;
+
+    private ConfigSnapshot(Map<String, String> values, Map<String, String> sources, String environment,
+                           Parser parser) {
+        this.values = values;
+        this.sources = sources;
+        this.environment = environment;
+        this.environmentValues = environmentView(values, environment);
+        this.browser = parser.oneOf("browser.default", "chrome", BrowserType.names());
+        this.headless = parser.bool("browser.headless", false);
+        this.implicitWait = parser.seconds("browser.implicit.wait", 10);
+        this.explicitWait = parser.seconds("browser.explicit.wait", 20);
+        this.pageLoadTimeout = parser.seconds("browser.page.load.timeout", 30);
+        this.baseUrl = parser.url("url.base", "https://www.google.com");
+        this.screenshotOnFailure = parser.bool("report.screenshots.on.failure", true);
+        this.driverScope = parser.driverScope("driver.scope");
+    }
+
+    /**
+     * Parse and validate resolved values
+     * @param values Resolved key/value pairs
+     * @param sources Source of each value
+     * @param environment Environment name
+     * @param errors Errors found while resolving, extended with validation errors
+     * @return Snapshot
+     * @throws IllegalStateException listing every invalid or conflicting key
+     */
+    static ConfigSnapshot from(Map<String, String> values, Map<String, String> sources, String environment,
+                               List<String> errors) {
+        Parser parser = new Parser(values, sources, errors);
+        ConfigSnapshot snapshot = new ConfigSnapshot(Collections.unmodifiableMap(new HashMap<>(values)),
+            Collections.unmodifiableMap(new HashMap<>(sources)), environment, parser);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration:" + System.lineSeparator() + "  - "
+                + String.join(System.lineSeparator() + "  - ", errors));
+        }
+        return snapshot;
+    }
+
+    /**
+     * All values, with &lt;environment&gt;.&lt;key&gt; entries overriding &lt;key&gt;
+     */
+    private static Map<String, String> environmentView(Map<String, String> values, String environment) {
+        Map<String, String> view = new HashMap<>(values);
+        String prefix = environment + ".";
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                view.put(entry.getKey().substring(prefix.length()), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(view);
+    }
+
+    /**
+     * Get raw value
+     * @param key Property key
+     * @return Value, or null if not set
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Get value for the current environment
+     * @param key Property key
+     * @return &lt;environment&gt;.&lt;key&gt; if set, otherwise &lt;key&gt;
+     */
+    public String getEnvironmentValue(String key) {
+        return environmentValues.get(key);
+    }
+
+    /**
+     * Get where a value came from
+     * @param key Property key
+     * @return Source description, or null if not set
+     */
+    public String getSource(String key) {
+        return sources.get(key);
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Get all raw values
+     * @return Unmodifiable key/value map
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    public Duration getExplicitWait() {
+        return explicitWait;
+    }
+
+    public Duration getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    public URL getBaseUrl() {
+        return baseUrl;
+    }
+
+    public boolean isScreenshotOnFailure() {
+        return screenshotOnFailure;
+    }
+
+    public DriverScope getDriverScope() {
+        return driverScope;
+    }
+
+    /**
+     * Typed parsing that collects errors instead of failing on the first one
+     */
+    private static class Parser {
+        private final Map<String, String> values;
+        private final Map<String, String> sources;
+        private final List<String> errors;
+
+        Parser(Map<String, String> values, Map<String, String> sources, List<String> errors) {
+            this.values = values;
+            this.sources = sources;
+            this.errors = errors;
+        }
+
+        private void error(String key, String message) {
+            errors.add(key + " (" + sources.getOrDefault(key, "default") + "): " + message);
+        }
+
+        boolean bool(String key, boolean defaultValue) {
+            String value = values.get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                error(key, "expected true or false but was '" + value + "'");
+                return defaultValue;
+            }
+            return Boolean.parseBoolean(value);
+        }
+
+        Duration seconds(String key, int defaultSeconds) {
+            String value = values.get(key);
+            if (value == null) {
+                return Duration.ofSeconds(defaultSeconds);
+            }
+            try {
+                int seconds = Integer.parseInt(value);
+                if (seconds < 0) {
+                    error(key, "must not be negative but was " + seconds);
+                    return Duration.ofSeconds(defaultSeconds);
+                }
+                return Duration.ofSeconds(seconds);
+            } catch (NumberFormatException e) {
+                error(key, "expected whole seconds but was '" + value + "'");
+                return Duration.ofSeconds(defaultSeconds);
+            }
+        }
+
+        String oneOf(String key, String defaultValue, List<String> allowed) {
+            String value = values.getOrDefault(key, defaultValue).toLowerCase();
+            if (!allowed.contains(value)) {
+                error(key, "expected one of " + allowed + " but was '" + value + "'");
+                return defaultValue;
+            }
+            return value;
+        }
+
+        URL url(String key, String defaultValue) {
+            String value = values.getOrDefault(key, defaultValue);
+            try {
+                return new URL(value);
+            } catch (MalformedURLException e) {
+                error(key, "not a valid URL '" + value + "'");
+                return null;
+            }
+        }
+
+        DriverScope driverScope(String key) {
+            try {
+                return DriverScope.fromValue(values.get(key));
+            } catch (IllegalArgumentException e) {
+                error(key, e.getMessage());
+                return DriverScope.METHOD;
+            }
+        }
+    }
+}
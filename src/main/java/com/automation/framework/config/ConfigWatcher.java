@@ -0,0 +1,103 @@
+package com.automation.framework.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the config files of the current environment and asks
+ * ConfigManager to reload when one of them changes. Editors often write a
+ * file in several steps, so events are collected until the directory has
+ * been quiet for a short moment before reloading once.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+final class ConfigWatcher implements Runnable {
+
+    private static final Logger logger = LogManager.getLogger(ConfigWatcher.class);
+    private static final long QUIET_PERIOD_MILLIS = 250;
+
+    private final ConfigManager manager;
+    private final Path directory;
+    private final List<String> fileNames;
+    private final WatchService watchService;
+
+    private ConfigWatcher(ConfigManager manager, Path directory, String environment) throws IOException {
+        this.manager = manager;
+        this.directory = directory;
+        this.fileNames = Arrays.asList("config.properties", "config-" + environment + ".properties");
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    /**
+     * Start watching on a daemon thread
+     * @param manager Manager to reload
+     * @param directory Directory holding the config files
+     * @param environment Environment whose override file is watched as well
+     */
+    static void start(ConfigManager manager, Path directory, String environment) {
+        try {
+            ConfigWatcher watcher = new ConfigWatcher(manager, directory, environment);
+            Thread thread = new Thread(watcher, "config-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            logger.info("Watching " + watcher.fileNames + " in " + directory.toAbsolutePath() + " for changes");
+        } catch (IOException e) {
+            logger.error("Config hot reload disabled, cannot watch " + directory + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                boolean changed = drain(watchService.take());
+                if (!changed) {
+                    continue;
+                }
+                // Wait for the writes to settle, then reload once
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    drain(key);
+                }
+                try {
+                    manager.reload(directory);
+                } catch (RuntimeException e) {
+                    logger.error("Configuration reload failed: " + e.getMessage(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Consume the events of a key
+     * @param key Signalled key
+     * @return true if one of the watched files was touched
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fileNames.contains(String.valueOf(event.context()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
@@ -0,0 +1,42 @@
+package com.automation.framework.config;
+
+/**
+ * Lifecycle scope of a WebDriver session. With any scope wider than
+ * METHOD a worker thread keeps its session across test methods and only
+ * resets its state in between; the session is released when the matching
+ * TestNG scope (class, test or suite) ends.
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public enum DriverScope {
+    METHOD,
+    CLASS,
+    TEST,
+    SUITE;
+    
+    /**
+     * Get driver scope from the driver.scope configuration key
+     * @return Configured scope, METHOD if not set
+     */
+    public static DriverScope fromConfig() {
+        return ConfigManager.getInstance().getSnapshot().getDriverScope();
+    }
+    
+    /**
+     * Parse a driver.scope value
+     * @param value Scope name, case-insensitive
+     * @return Scope, METHOD if value is null
+     */
+    public static DriverScope fromValue(String value) {
+        if (value == null) {
+            return METHOD;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported driver.scope: " + value
+                + " (expected method, class, test or suite)", e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM and remembers them in an
+ * on-disk manifest (path, version, checksum, browser major version) so
+ * later JVMs can skip WebDriverManager resolution entirely, including when
+ * offline.
+ *
+ * Resolution order: pre-populated local driver directory, manifest entry
+ * with a matching checksum and browser major version, then WebDriverManager.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<String, CompletableFuture<ResolvedDriver>> resolved = new ConcurrentHashMap<>();
+
+    private static final String DEFAULT_DRIVER_DIR = "drivers";
+    private static final String DEFAULT_MANIFEST_PATH =
+        System.getProperty("user.home") + "/.cache/selenium/driver-manifest.properties";
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Make sure the driver binary for a browser is resolved and registered
+     * with Selenium. Only the first call per browser in a JVM does any work;
+     * concurrent callers for the same browser wait for that single resolution.
+     * @param browser Browser name (chrome, firefox or edge)
+     */
+    public static void ensureResolved(String browser) {
+        String key = browser.toLowerCase();
+        CompletableFuture<ResolvedDriver> created = new CompletableFuture<>();
+        CompletableFuture<ResolvedDriver> pending = resolved.putIfAbsent(key, created);
+        if (pending == null) {
+            // Resolve outside the map so file and network IO never holds a map bin lock
+            pending = created;
+            try {
+                created.complete(resolve(key));
+            } catch (RuntimeException e) {
+                // Do not remember the failure; the next caller tries again
+                resolved.remove(key, created);
+                created.completeExceptionally(e);
+            }
+        }
+
+        ResolvedDriver driver;
+        try {
+            driver = pending.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        System.setProperty(driver.systemProperty, driver.path);
+    }
+
+    /**
+     * Resolve a driver binary without consulting the in-memory cache
+     * @param browser Browser name
+     * @return Resolved driver details
+     */
+    private static ResolvedDriver resolve(String browser) {
+        DriverType type = DriverType.forBrowser(browser);
+        long start = System.currentTimeMillis();
+
+        ResolvedDriver driver = fromLocalDirectory(type);
+        if (driver == null) {
+            String browserVersion = detectBrowserMajorVersion(type);
+            driver = fromManifest(type, browserVersion);
+            if (driver == null) {
+                driver = fromWebDriverManager(type);
+                writeManifestEntry(type, driver, browserVersion);
+            }
+        }
+
+        logger.info("Resolved " + type.binaryName + " " + driver.version + " from " + driver.source
+            + " in " + (System.currentTimeMillis() - start) + " ms: " + driver.path);
+        return driver;
+    }
+
+    /**
+     * Look for a pre-populated binary in the configured local driver directory
+     * @param type Driver type
+     * @return Resolved driver or null if not present
+     */
+    private static ResolvedDriver fromLocalDirectory(DriverType type) {
+        Path dir = Paths.get(config.getProperty("driver.binary.dir", DEFAULT_DRIVER_DIR));
+        for (String fileName : new String[] {type.binaryName, type.binaryName + ".exe"}) {
+            Path candidate = dir.resolve(fileName);
+            if (Files.isRegularFile(candidate)) {
+                return new ResolvedDriver(type.systemProperty, candidate.toAbsolutePath().toString(),
+                    "local", checksum(candidate), "local directory");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reuse a manifest entry written by an earlier JVM if the binary is
+     * unchanged and was resolved for the installed browser major version
+     * @param type Driver type
+     * @param browserVersion Installed browser major version, or null if it could not be detected
+     * @return Resolved driver or null if no valid entry exists
+     */
+    private static ResolvedDriver fromManifest(DriverType type, String browserVersion) {
+        Properties manifest = readManifest();
+        String path = manifest.getProperty(type.key + ".path");
+        String version = manifest.getProperty(type.key + ".version");
+        String expectedChecksum = manifest.getProperty(type.key + ".sha256");
+        if (path == null || expectedChecksum == null || !Files.isRegularFile(Paths.get(path))) {
+            return null;
+        }
+
+        // An undetectable browser (e.g. offline CI image without the shell command) keeps the cached entry
+        String cachedBrowserVersion = manifest.getProperty(type.key + ".browser.version");
+        if (browserVersion != null && !browserVersion.equals(cachedBrowserVersion)) {
+            logger.info("Installed " + type.key + " " + browserVersion + " differs from cached "
+                + cachedBrowserVersion + ", resolving " + type.binaryName + " again");
+            return null;
+        }
+
+        String actualChecksum = checksum(Paths.get(path));
+        if (!expectedChecksum.equals(actualChecksum)) {
+            logger.warn("Checksum mismatch for cached " + type.binaryName + ", resolving again");
+            return null;
+        }
+        return new ResolvedDriver(type.systemProperty, path, version, actualChecksum, "manifest");
+    }
+
+    /**
+     * Resolve the binary through WebDriverManager
+     * @param type Driver type
+     * @return Resolved driver
+     */
+    private static ResolvedDriver fromWebDriverManager(DriverType type) {
+        if (config.getBooleanProperty("driver.binary.offline", false)) {
+            throw new IllegalStateException("No " + type.binaryName + " found in the local driver directory or "
+                + "manifest, and driver.binary.offline=true forbids downloading it");
+        }
+
+        WebDriverManager manager = WebDriverManager.getInstance(type.managerType);
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        return new ResolvedDriver(type.systemProperty, path, manager.getDownloadedDriverVersion(),
+            checksum(Paths.get(path)), "WebDriverManager");
+    }
+
+    /**
+     * Detect the major version of the installed browser the same way
+     * WebDriverManager does, by running the browser's version command
+     * @param type Driver type
+     * @return Major version, or null if the browser could not be detected
+     */
+    private static String detectBrowserMajorVersion(DriverType type) {
+        WebDriverManager manager = WebDriverManager.getInstance(type.managerType);
+        try (HttpClient httpClient = new HttpClient(manager.config())) {
+            Optional<String> version = new VersionDetector(manager.config(), httpClient)
+                .getBrowserVersionFromTheShell(type.managerType.getBrowserNameLowerCase());
+            return version.map(VersionDetector::getMajorVersion).orElse(null);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not detect installed " + type.key + " version: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        Path manifestPath = getManifestPath();
+        if (Files.isRegularFile(manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifestPath)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                logger.warn("Failed to read driver manifest " + manifestPath + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Merge one entry into the manifest. A lock file serialises writers from
+     * different JVMs and the file is replaced atomically so readers never see
+     * a partial manifest.
+     * @param type Driver type
+     * @param driver Resolved driver
+     * @param browserVersion Browser major version the driver was resolved for, or null if unknown
+     */
+    private static void writeManifestEntry(DriverType type, ResolvedDriver driver, String browserVersion) {
+        Path manifestPath = getManifestPath();
+        Path lockPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".lock");
+        try {
+            Files.createDirectories(manifestPath.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                Properties manifest = readManifest();
+                manifest.setProperty(type.key + ".path", driver.path);
+                manifest.setProperty(type.key + ".version", String.valueOf(driver.version));
+                manifest.setProperty(type.key + ".sha256", driver.checksum);
+                if (browserVersion != null) {
+                    manifest.setProperty(type.key + ".browser.version", browserVersion);
+                } else {
+                    manifest.remove(type.key + ".browser.version");
+                }
+
+                Path tempPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+                try (OutputStream out = Files.newOutputStream(tempPath)) {
+                    manifest.store(out, "Resolved WebDriver binaries");
+                }
+                Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to update driver manifest " + manifestPath + ": " + e.getMessage());
+        }
+    }
+
+    private static Path getManifestPath() {
+        return Paths.get(config.getProperty("driver.binary.manifest", DEFAULT_MANIFEST_PATH));
+    }
+
+    /**
+     * Compute SHA-256 checksum of a file
+     * @param file File path
+     * @return Hex encoded checksum
+     */
+    private static String checksum(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to checksum driver binary: " + file, e);
+        }
+    }
+
+    /**
+     * Supported driver binaries and their Selenium system properties
+     */
+    private enum DriverType {
+        CHROME("chrome", "chromedriver", "webdriver.chrome.driver",
+            DriverManagerType.CHROME),
+        FIREFOX("firefox", "geckodriver", "webdriver.gecko.driver",
+            DriverManagerType.FIREFOX),
+        EDGE("edge", "msedgedriver", "webdriver.edge.driver",
+            DriverManagerType.EDGE);
+
+        private final String key;
+        private final String binaryName;
+        private final String systemProperty;
+        private final DriverManagerType managerType;
+
+        DriverType(String key, String binaryName, String systemProperty,
+                   DriverManagerType managerType) {
+            this.key = key;
+            this.binaryName = binaryName;
+            this.systemProperty = systemProperty;
+            this.managerType = managerType;
+        }
+
+        static DriverType forBrowser(String browser) {
+            for (DriverType type : values()) {
+                if (type.key.equals(browser)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("No driver binary for browser: " + browser);
+        }
+    }
+
+    /**
+     * Driver binary resolved for this JVM
+     */
+    private static class ResolvedDriver {
+        private final String systemProperty;
+        private final String path;
+        private final String version;
+        private final String checksum;
+        private final String source;
+
+        ResolvedDriver(String systemProperty, String path, String version, String checksum, String source) {
+            this.systemProperty = systemProperty;
+            this.path = path;
+            this.version = version;
+            this.checksum = checksum;
+            this.source = source;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.automation.framework.driver;
 
+import com.automation.framework.config.BrowserType;
 import com.automation.framework.config.ConfigManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.automation.framework.config.ConfigSnapshot;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -16,9 +20,21 @@ import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * WebDriver Factory for creating and managing WebDriver instances
@@ -31,41 +47,365 @@ public class DriverFactory {
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<WebDriverWait> waitThreadLocal = new ThreadLocal<>();
+    private static final Map<WebDriver, String> scopedDrivers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Integer> implicitWaitSuspensions = ThreadLocal.withInitial(() -> 0);
+    private static final Map<WebDriver, Dimension> initialWindowSizes =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final String INDEXED_DB_RESET_SCRIPT =
+        "var done = arguments[arguments.length - 1];"
+        + "if (!window.indexedDB || !indexedDB.databases) { done(0); return; }"
+        + "indexedDB.databases().then(function (dbs) {"
+        + "  dbs.forEach(function (db) { indexedDB.deleteDatabase(db.name); });"
+        + "  done(dbs.length);"
+        + "}).catch(function () { done(0); });";
+    private static final String ORIGIN_STORAGE_TYPES =
+        "local_storage,indexeddb,websql,cache_storage,service_workers,file_systems";
     private static final ConfigManager config = ConfigManager.getInstance();
     
+    // Timeouts applied to drivers, replaced when the configuration is reloaded
+    private static volatile Timeouts timeouts = Timeouts.from(config.getSnapshot());
+    private static final Map<WebDriver, Timeouts> appliedTimeouts =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    
+    static {
+        config.addChangeListener(DriverFactory::onConfigChange);
+    }
+    
     /**
      * Create WebDriver instance based on browser type
      * @param browser Browser name
      * @return WebDriver instance
      */
     public static WebDriver createDriver(String browser) {
+        WebDriver driver = launchDriver(browser);
+        bindDriver(driver);
+        logger.info("WebDriver created successfully for browser: " + browser);
+        return driver;
+    }
+    
+    /**
+     * Acquire a WebDriver for the current thread, leasing a warm session
+     * from the pool when pooling is enabled
+     * @param browser Browser name
+     * @return WebDriver instance
+     */
+    public static WebDriver acquireDriver(String browser) {
+        if (!DriverPool.isEnabled()) {
+            return createDriver(browser);
+        }
+        
+        WebDriver driver = DriverPool.getInstance().lease(browser);
+        bindDriver(driver);
+        logger.info("WebDriver leased from pool for browser: " + browser);
+        return driver;
+    }
+    
+    /**
+     * Release the current thread's WebDriver, returning it to the pool
+     * when pooling is enabled or quitting it otherwise
+     */
+    public static void releaseDriver() {
+        releaseDriver(true);
+    }
+    
+    /**
+     * Discard the current thread's WebDriver, e.g. after its session reset
+     * failed: a pooled session is quit without being reset again
+     */
+    public static void discardDriver() {
+        releaseDriver(false);
+    }
+    
+    private static void releaseDriver(boolean healthy) {
+        WebDriver driver = getDriver();
+        if (driver != null) {
+            try {
+                scopedDrivers.remove(driver);
+                release(driver, healthy);
+            } finally {
+                driverThreadLocal.remove();
+                waitThreadLocal.remove();
+            }
+        }
+    }
+    
+    /**
+     * Acquire a WebDriver owned by a scope wider than a single test method.
+     * The current thread keeps its driver while it belongs to the same scope;
+     * a driver from another scope, or one already released by
+     * {@link #releaseScope(String)}, is replaced.
+     * @param browser Browser name
+     * @param scopeKey Key identifying the owning class, test or suite
+     * @return WebDriver instance
+     */
+    public static WebDriver acquireScopedDriver(String browser, String scopeKey) {
+        WebDriver driver = getDriver();
+        if (driver != null) {
+            String owner = scopedDrivers.get(driver);
+            if (scopeKey.equals(owner)) {
+                if (appliedTimeouts.get(driver) != timeouts) {
+                    bindDriver(driver);
+                }
+                return driver;
+            }
+            if (owner != null) {
+                releaseDriver();
+            } else {
+                // Already released by the end of its scope on another thread
+                driverThreadLocal.remove();
+                waitThreadLocal.remove();
+            }
+        }
+        
+        driver = acquireDriver(browser);
+        scopedDrivers.put(driver, scopeKey);
+        logger.info("WebDriver bound to scope: " + scopeKey);
+        return driver;
+    }
+    
+    /**
+     * Release every driver owned by a scope, whichever thread holds it
+     * @param scopeKey Key identifying the owning class, test or suite
+     */
+    public static void releaseScope(String scopeKey) {
+        int released = 0;
+        for (Map.Entry<WebDriver, String> entry : scopedDrivers.entrySet()) {
+            if (scopeKey.equals(entry.getValue()) && scopedDrivers.remove(entry.getKey(), scopeKey)) {
+                release(entry.getKey(), true);
+                released++;
+            }
+        }
+        
+        WebDriver current = getDriver();
+        if (current != null && !scopedDrivers.containsKey(current)) {
+            driverThreadLocal.remove();
+            waitThreadLocal.remove();
+        }
+        logger.info("Released " + released + " WebDriver(s) for scope: " + scopeKey);
+    }
+    
+    /**
+     * Reset the current thread's session to a clean state so it can be
+     * reused by the next test method instead of quitting and relaunching
+     * @return Reset report with per-step timings; not clean if no driver is bound
+     */
+    public static SessionResetReport resetSession() {
+        WebDriver driver = getDriver();
+        if (driver == null) {
+            SessionResetReport report = new SessionResetReport();
+            report.recordFailure("driver", 0, new IllegalStateException("No WebDriver bound to current thread"));
+            return report;
+        }
+        return resetSession(driver);
+    }
+    
+    /**
+     * Restore a session to a clean state: extra windows, web storage,
+     * IndexedDB, cookies, zoom and window size, then about:blank.
+     * On Chromium, storage is cleared through CDP for every origin in the
+     * navigation history and frame tree of the windows. Other browsers only
+     * allow clearing storage of the page currently loaded, so origins
+     * visited earlier in the test keep their storage there.
+     * Stops at the first failing step so the caller can discard the session.
+     * @param driver WebDriver instance
+     * @return Reset report with per-step timings
+     */
+    static SessionResetReport resetSession(WebDriver driver) {
+        SessionResetReport report = new SessionResetReport();
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        ChromiumDriver chromium = driver instanceof ChromiumDriver ? (ChromiumDriver) driver : null;
+        Set<String> origins = new LinkedHashSet<>();
+        
+        boolean clean = runResetStep(report, "windows", () -> {
+                Set<String> handles = driver.getWindowHandles();
+                String primary = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(primary)) {
+                        driver.switchTo().window(handle);
+                        if (chromium != null) {
+                            collectOrigins(chromium, origins);
+                        }
+                        driver.close();
+                    }
+                }
+                driver.switchTo().window(primary);
+                if (chromium != null) {
+                    collectOrigins(chromium, origins);
+                }
+            })
+            // sessionStorage belongs to the tab, so it is cleared before leaving the page
+            && runResetStep(report, "storage", () -> js.executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}"))
+            && runResetStep(report, "indexedDB", () -> {
+                if (chromium != null) {
+                    clearOriginData(chromium, origins);
+                } else {
+                    js.executeAsyncScript(INDEXED_DB_RESET_SCRIPT);
+                }
+            })
+            && runResetStep(report, "cookies", () -> {
+                if (chromium != null) {
+                    chromium.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+                } else {
+                    driver.manage().deleteAllCookies();
+                }
+            })
+            && runResetStep(report, "viewport", () -> {
+                if (chromium != null) {
+                    chromium.executeCdpCommand("Emulation.clearDeviceMetricsOverride", Collections.emptyMap());
+                }
+                Dimension initialSize = initialWindowSizes.get(driver);
+                if (initialSize != null && !initialSize.equals(driver.manage().window().getSize())) {
+                    driver.manage().window().setSize(initialSize);
+                }
+            })
+            // Page scale survives navigation; CSS zoom does not, so about:blank resets it anyway
+            && runResetStep(report, "zoom", () -> {
+                if (chromium != null) {
+                    chromium.executeCdpCommand("Emulation.setPageScaleFactor",
+                        Collections.singletonMap("pageScaleFactor", 1));
+                }
+            })
+            && runResetStep(report, "navigate", () -> {
+                driver.get("about:blank");
+                if (chromium != null) {
+                    // Start the next test with an empty history so its origins are the only ones collected
+                    chromium.executeCdpCommand("Page.resetNavigationHistory", Collections.emptyMap());
+                }
+            });
+        
+        if (clean) {
+            logger.debug(report.toString());
+        } else {
+            logger.warn(report + ": " + report.getFailure().getMessage());
+        }
+        return report;
+    }
+    
+    /**
+     * Add the web origins of the current window's navigation history and
+     * frame tree
+     * @param driver Chromium driver switched to the window
+     * @param origins Collected origins
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectOrigins(ChromiumDriver driver, Set<String> origins) {
+        Map<String, Object> history = driver.executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap());
+        for (Map<String, Object> entry : (List<Map<String, Object>>) history.get("entries")) {
+            addOrigin((String) entry.get("url"), origins);
+        }
+        Map<String, Object> frameTree = driver.executeCdpCommand("Page.getFrameTree", Collections.emptyMap());
+        collectFrameOrigins((Map<String, Object>) frameTree.get("frameTree"), origins);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static void collectFrameOrigins(Map<String, Object> node, Set<String> origins) {
+        Map<String, Object> frame = (Map<String, Object>) node.get("frame");
+        addOrigin((String) frame.get("url"), origins);
+        List<Map<String, Object>> children = (List<Map<String, Object>>) node.get("childFrames");
+        if (children != null) {
+            for (Map<String, Object> child : children) {
+                collectFrameOrigins(child, origins);
+            }
+        }
+    }
+    
+    private static void addOrigin(String url, Set<String> origins) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return;
+        }
+        try {
+            URI uri = new URI(url);
+            if (uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : ""));
+            }
+        } catch (URISyntaxException e) {
+            logger.debug("Skipping origin of malformed URL: " + url);
+        }
+    }
+    
+    /**
+     * Clear local storage, IndexedDB, Cache Storage and service workers of
+     * each origin through CDP
+     * @param driver Chromium driver
+     * @param origins Origins to clear
+     */
+    private static void clearOriginData(ChromiumDriver driver, Set<String> origins) {
+        for (String origin : origins) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("origin", origin);
+            params.put("storageTypes", ORIGIN_STORAGE_TYPES);
+            driver.executeCdpCommand("Storage.clearDataForOrigin", params);
+        }
+    }
+    
+    /**
+     * Run and time one reset step
+     * @param report Report to record the step in
+     * @param step Step name
+     * @param action Step action
+     * @return true if the step succeeded
+     */
+    private static boolean runResetStep(SessionResetReport report, String step, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            report.recordStep(step, System.nanoTime() - start);
+            return true;
+        } catch (Exception e) {
+            report.recordFailure(step, System.nanoTime() - start, e);
+            return false;
+        }
+    }
+    
+    /**
+     * Return a driver to the pool or quit it
+     * @param driver WebDriver instance
+     * @param healthy false to have the pool quit the session instead of resetting it for reuse
+     */
+    private static void release(WebDriver driver, boolean healthy) {
+        if (DriverPool.isEnabled()) {
+            DriverPool.getInstance().release(driver, healthy);
+            logger.info("WebDriver returned to pool");
+        } else {
+            try {
+                driver.quit();
+                logger.info("WebDriver quit successfully");
+            } catch (Exception e) {
+                logger.error("Error while quitting WebDriver", e);
+            }
+        }
+    }
+    
+    /**
+     * Launch and configure a WebDriver without binding it to the current thread
+     * @param browser Browser name
+     * @return Configured WebDriver instance
+     */
+    static WebDriver launchDriver(String browser) {
         WebDriver driver = null;
         
         try {
-            switch (browser.toLowerCase()) {
-                case "chrome":
+            switch (BrowserType.fromName(browser)) {
+                case CHROME:
                     driver = createChromeDriver();
                     break;
-                case "firefox":
+                case FIREFOX:
                     driver = createFirefoxDriver();
                     break;
-                case "edge":
+                case EDGE:
                     driver = createEdgeDriver();
                     break;
-                case "safari":
+                case SAFARI:
                     driver = createSafariDriver();
                     break;
-                case "remote":
+                case REMOTE:
                     driver = createRemoteDriver();
                     break;
-                default:
-                    logger.error("Unsupported browser: " + browser);
-                    throw new IllegalArgumentException("Browser not supported: " + browser);
             }
             
             configureDriver(driver);
-            setDriver(driver);
-            logger.info("WebDriver created successfully for browser: " + browser);
             
         } catch (Exception e) {
             logger.error("Failed to create WebDriver for browser: " + browser, e);
@@ -75,12 +415,30 @@ public class DriverFactory {
         return driver;
     }
     
+    /**
+     * Bind WebDriver and a matching WebDriverWait to the current thread
+     * @param driver WebDriver instance
+     */
+    private static void bindDriver(WebDriver driver) {
+        setDriver(driver);
+        Timeouts current = timeouts;
+        if (appliedTimeouts.get(driver) != current) {
+            // Reused session configured before the last config reload
+            try {
+                applyTimeouts(driver, current);
+            } catch (Exception e) {
+                logger.warn("Failed to update driver timeouts: " + e.getMessage());
+            }
+        }
+        setWait(new WebDriverWait(driver, current.explicitWait));
+    }
+    
     /**
      * Create Chrome driver with options
      * @return ChromeDriver instance
      */
     private static WebDriver createChromeDriver() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryCache.ensureResolved("chrome");
         ChromeOptions options = new ChromeOptions();
         
         if (config.isHeadless()) {
@@ -104,7 +462,7 @@ public class DriverFactory {
      * @return FirefoxDriver instance
      */
     private static WebDriver createFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
+        DriverBinaryCache.ensureResolved("firefox");
         FirefoxOptions options = new FirefoxOptions();
         
         if (config.isHeadless()) {
@@ -122,7 +480,7 @@ public class DriverFactory {
      * @return EdgeDriver instance
      */
     private static WebDriver createEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
+        DriverBinaryCache.ensureResolved("edge");
         EdgeOptions options = new EdgeOptions();
         
         if (config.isHeadless()) {
@@ -169,17 +527,66 @@ public class DriverFactory {
      * @param driver WebDriver instance
      */
     private static void configureDriver(WebDriver driver) {
-        driver.manage().timeouts().implicitlyWait(
-            Duration.ofSeconds(config.getImplicitWait())
-        );
-        driver.manage().timeouts().pageLoadTimeout(
-            Duration.ofSeconds(config.getPageLoadTimeout())
-        );
+        applyTimeouts(driver, timeouts);
         driver.manage().window().maximize();
+        initialWindowSizes.put(driver, driver.manage().window().getSize());
+    }
+    
+    /**
+     * Apply configured timeouts to a driver and remember which were applied
+     * @param driver WebDriver instance
+     * @param applied Timeouts to apply
+     */
+    private static void applyTimeouts(WebDriver driver, Timeouts applied) {
+        if (implicitWaitSuspensions.get() == 0) {
+            driver.manage().timeouts().implicitlyWait(applied.implicitWait);
+        }
+        driver.manage().timeouts().pageLoadTimeout(applied.pageLoadTimeout);
+        appliedTimeouts.put(driver, applied);
+    }
+    
+    /**
+     * Pick up new timeouts after a configuration reload. Drivers are not
+     * touched here, since they belong to other threads; each one is updated
+     * the next time it is bound to a test.
+     */
+    private static void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current) {
+        Timeouts updated = Timeouts.from(current);
+        if (!updated.equals(timeouts)) {
+            timeouts = updated;
+            logger.info("Driver timeouts updated: " + updated);
+        }
+    }
+    
+    /**
+     * Run an action with the implicit wait set to zero, so element lookups
+     * return immediately and only the caller's own timeout applies. The
+     * configured implicit wait is restored afterwards; nested calls on the
+     * same thread only switch it once.
+     * @param driver WebDriver instance
+     * @param action Action to run
+     * @param <T> Result type
+     * @return Action result
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> action) {
+        int depth = implicitWaitSuspensions.get();
+        Duration implicitWait = appliedTimeouts.getOrDefault(driver, timeouts).implicitWait;
+        if (depth > 0 || implicitWait.isZero()) {
+            return action.get();
+        }
         
-        // Create WebDriverWait instance
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
-        setWait(wait);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        implicitWaitSuspensions.set(depth + 1);
+        try {
+            return action.get();
+        } finally {
+            implicitWaitSuspensions.set(depth);
+            try {
+                driver.manage().timeouts().implicitlyWait(implicitWait);
+            } catch (Exception e) {
+                logger.warn("Failed to restore implicit wait: " + e.getMessage());
+            }
+        }
     }
     
     /**
@@ -239,4 +646,44 @@ public class DriverFactory {
     public static boolean isDriverInitialized() {
         return getDriver() != null;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Driver timeouts taken from one configuration snapshot
+     */
+    private static final class Timeouts {
+        private final Duration implicitWait;
+        private final Duration explicitWait;
+        private final Duration pageLoadTimeout;
+        
+        private Timeouts(Duration implicitWait, Duration explicitWait, Duration pageLoadTimeout) {
+            this.implicitWait = implicitWait;
+            this.explicitWait = explicitWait;
+            this.pageLoadTimeout = pageLoadTimeout;
+        }
+        
+        static Timeouts from(ConfigSnapshot snapshot) {
+            return new Timeouts(snapshot.getImplicitWait(), snapshot.getExplicitWait(), snapshot.getPageLoadTimeout());
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Timeouts)) {
+                return false;
+            }
+            Timeouts that = (Timeouts) other;
+            return implicitWait.equals(that.implicitWait) && explicitWait.equals(that.explicitWait)
+                && pageLoadTimeout.equals(that.pageLoadTimeout);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(implicitWait, explicitWait, pageLoadTimeout);
+        }
+        
+        @Override
+        public String toString() {
+            return "implicit " + implicitWait.getSeconds() + "s, explicit " + explicitWait.getSeconds()
+                + "s, page load " + pageLoadTimeout.getSeconds() + "s";
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, per-browser pool of warm WebDriver sessions.
+ * Sessions are leased to test threads and returned after a state reset,
+ * so a browser is only launched when the pool has nothing idle to offer.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static volatile DriverPool instance;
+    private static final long WAIT_SLICE_MILLIS = 500;
+    // Offered to the idle queue to wake a waiting lease when a discarded session frees a slot
+    private static final PooledSession SLOT_FREED = new PooledSession(null, null);
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, BrowserSessions> pools = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final ExecutorService launcher;
+    private final int maxSize;
+    private final int maxReuse;
+    private final long leaseTimeoutSeconds;
+    private volatile boolean closed;
+
+    // Pool statistics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong createNanos = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong resetNanos = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    private DriverPool() {
+        this.maxSize = config.getIntProperty("driver.pool.size", 3);
+        this.maxReuse = config.getIntProperty("driver.pool.max.reuse", 20);
+        this.leaseTimeoutSeconds = config.getIntProperty("driver.pool.lease.timeout", 120);
+        this.launcher = Executors.newFixedThreadPool(maxSize, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-launcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get singleton instance of DriverPool
+     * @return DriverPool instance
+     */
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    instance = new DriverPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if session pooling is enabled in configuration
+     * @return true if pooling is enabled
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    /**
+     * Pre-launch sessions for a browser so the first tests find them idle
+     * @param browser Browser name
+     * @param count Number of sessions to launch (capped at pool size)
+     */
+    public void warmUp(String browser, int count) {
+        ensureOpen();
+        BrowserSessions sessions = sessionsFor(browser);
+        List<Future<?>> launches = new ArrayList<>();
+
+        for (int i = 0; i < count && sessions.tryReserve(); i++) {
+            launches.add(launchInBackground(sessions, browser));
+        }
+
+        for (Future<?> launch : launches) {
+            try {
+                launch.get();
+            } catch (InterruptedException e) {
+                // Launches keep running in the background; stop waiting for them
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while warming up " + browser + " sessions");
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Pre-launch of " + browser + " session failed", e.getCause());
+            }
+        }
+        logger.info("Driver pool warmed up with " + sessions.idle.size() + " " + browser + " session(s)");
+    }
+
+    /**
+     * Register upcoming demand for a browser and start launching sessions
+     * in the background so they are idle by the time workers lease them
+     * @param browser Browser name
+     * @param methodCount Number of queued test methods that need the browser
+     */
+    public void expectDemand(String browser, int methodCount) {
+        ensureOpen();
+        BrowserSessions sessions = sessionsFor(browser);
+        sessions.demand.addAndGet(methodCount);
+        replenish(sessions, browser);
+        logger.info("Registered demand for " + methodCount + " " + browser + " session lease(s)");
+    }
+
+    /**
+     * Lease a session for the given browser, launching one if none is idle
+     * @param browser Browser name
+     * @return WebDriver instance owned by the caller until released
+     */
+    public WebDriver lease(String browser) {
+        ensureOpen();
+        long start = System.nanoTime();
+        BrowserSessions sessions = sessionsFor(browser);
+        sessions.demand.updateAndGet(current -> Math.max(0, current - 1));
+        PooledSession session = pollIdle(sessions);
+
+        if (session != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            session = awaitSession(sessions, browser);
+        }
+
+        session.leaseCount++;
+        leased.put(session.driver, session);
+        recordLeaseWait(System.nanoTime() - start);
+        replenish(sessions, browser);
+        logger.debug("Leased " + browser + " session (lease #" + session.leaseCount + ")");
+        return session.driver;
+    }
+
+    /**
+     * Return a leased session to the pool. The session is reset and kept
+     * for reuse, or quit if it is unhealthy or has reached its reuse limit.
+     * @param driver WebDriver instance previously obtained from lease
+     */
+    public void release(WebDriver driver) {
+        release(driver, true);
+    }
+
+    /**
+     * Return a leased session to the pool
+     * @param driver WebDriver instance previously obtained from lease
+     * @param healthy false to quit the session without resetting it, e.g.
+     *                when the caller's own reset already failed
+     */
+    public void release(WebDriver driver, boolean healthy) {
+        PooledSession session = leased.remove(driver);
+        if (closed) {
+            // Nothing to return to; shutdown already quit leased sessions
+            quietQuit(driver);
+            return;
+        }
+        if (session == null) {
+            logger.warn("Released driver does not belong to the pool, quitting it");
+            quietQuit(driver);
+            return;
+        }
+
+        BrowserSessions sessions = sessionsFor(session.browser);
+        if (!healthy) {
+            logger.info("Session released as unhealthy, discarding");
+            discard(sessions, session);
+        } else if (session.leaseCount >= maxReuse) {
+            logger.info("Session reached reuse limit of " + maxReuse + ", discarding");
+            discard(sessions, session);
+        } else if (!reset(driver)) {
+            logger.warn("Session failed health check on return, discarding");
+            discard(sessions, session);
+        } else {
+            sessions.idle.offerFirst(session);
+            return;
+        }
+        replenish(sessions, session.browser);
+    }
+
+    /**
+     * Quit every idle session and stop the launcher. The pool is
+     * unpublished, so the next getInstance builds a fresh one (e.g. for a
+     * second suite); callers still holding this instance get an
+     * IllegalStateException.
+     */
+    public void shutdown() {
+        synchronized (DriverPool.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        closed = true;
+        for (BrowserSessions sessions : pools.values()) {
+            PooledSession session;
+            while ((session = pollIdle(sessions)) != null) {
+                quietQuit(session.driver);
+            }
+        }
+        for (PooledSession session : leased.values()) {
+            quietQuit(session.driver);
+        }
+        leased.clear();
+        pools.clear();
+        launcher.shutdownNow();
+        logger.info("Driver pool shut down. " + getStatistics());
+    }
+
+    /**
+     * Get pool statistics summary
+     * @return Hit/miss counters and average session creation latency
+     */
+    public String getStatistics() {
+        long count = created.get();
+        long averageMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(createNanos.get() / count);
+        long leases = hits.get() + misses.get();
+        long averageWaitMillis = leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get() / leases);
+        long resetCount = resets.get();
+        long averageResetMillis = resetCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(resetNanos.get() / resetCount);
+        return "Pool hits: " + hits.get()
+            + ", misses: " + misses.get()
+            + ", sessions created: " + count
+            + ", sessions discarded: " + discarded.get()
+            + ", avg create time: " + averageMillis + " ms"
+            + ", avg reset time: " + averageResetMillis + " ms"
+            + ", avg lease wait: " + averageWaitMillis + " ms"
+            + ", max lease wait: " + TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()) + " ms";
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Launch sessions in the background until idle plus in-flight sessions
+     * cover the outstanding demand or the pool is full
+     * @param sessions Browser sessions
+     * @param browser Browser name
+     */
+    private void replenish(BrowserSessions sessions, String browser) {
+        while (sessions.idle.size() + sessions.launching.get() < sessions.demand.get()
+                && sessions.tryReserve()) {
+            launchInBackground(sessions, browser);
+        }
+    }
+
+    /**
+     * Launch one session on the launcher executor and park it in the idle queue
+     * @param sessions Browser sessions (slot must already be reserved)
+     * @param browser Browser name
+     * @return Future completing when the session is idle or the launch failed
+     */
+    private Future<?> launchInBackground(BrowserSessions sessions, String browser) {
+        sessions.launching.incrementAndGet();
+        return launcher.submit(() -> {
+            try {
+                PooledSession session = launch(browser);
+                if (closed) {
+                    quietQuit(session.driver);
+                } else {
+                    sessions.idle.offerLast(session);
+                }
+            } catch (RuntimeException e) {
+                sessions.total.decrementAndGet();
+                logger.error("Failed to pre-launch " + browser + " session", e);
+            } finally {
+                sessions.launching.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Reset a returned session and record how long it took
+     * @param driver WebDriver instance
+     * @return true if the session is clean and can be reused
+     */
+    private boolean reset(WebDriver driver) {
+        SessionResetReport report = DriverFactory.resetSession(driver);
+        resets.incrementAndGet();
+        resetNanos.addAndGet(report.getTotalNanos());
+        return report.isClean();
+    }
+
+    private void recordLeaseWait(long nanos) {
+        leaseWaitNanos.addAndGet(nanos);
+        maxLeaseWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Get a session when none was idle: launch one if the pool has capacity,
+     * otherwise wait for a launch in flight or a returned session. Waiting is
+     * done in short slices and capacity is checked again after each; a
+     * discarded session also wakes the wait at once, so a freed slot is
+     * used instead of sitting out the timeout.
+     * @param sessions Browser sessions
+     * @param browser Browser name
+     * @return Session owned by the caller
+     */
+    private PooledSession awaitSession(BrowserSessions sessions, String browser) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTimeoutSeconds);
+        // A background launch is already on its way, give it a moment before starting another
+        boolean launchInFlight = sessions.launching.get() > 0;
+        sessions.waiting.incrementAndGet();
+        try {
+            while (true) {
+                if (!launchInFlight && sessions.tryReserve()) {
+                    try {
+                        return launch(browser);
+                    } catch (RuntimeException e) {
+                        sessions.total.decrementAndGet();
+                        throw e;
+                    }
+                }
+                launchInFlight = false;
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("No " + browser + " session returned to the pool within "
+                        + leaseTimeoutSeconds + " seconds");
+                }
+                PooledSession session = sessions.idle.pollFirst(
+                    Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE_MILLIS)), TimeUnit.NANOSECONDS);
+                if (session != null && session != SLOT_FREED) {
+                    return session;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + browser + " session", e);
+        } finally {
+            sessions.waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Take an idle session without waiting, skipping leftover slot-freed signals
+     * @param sessions Browser sessions
+     * @return Idle session, or null if none
+     */
+    private PooledSession pollIdle(BrowserSessions sessions) {
+        PooledSession session;
+        do {
+            session = sessions.idle.pollFirst();
+        } while (session == SLOT_FREED);
+        return session;
+    }
+
+    /**
+     * Launch a new session and record creation latency
+     * @param browser Browser name
+     * @return New pooled session
+     */
+    private PooledSession launch(String browser) {
+        long start = System.nanoTime();
+        WebDriver driver = DriverFactory.launchDriver(browser);
+        createNanos.addAndGet(System.nanoTime() - start);
+        created.incrementAndGet();
+        return new PooledSession(browser, driver);
+    }
+
+    private void discard(BrowserSessions sessions, PooledSession session) {
+        sessions.total.decrementAndGet();
+        discarded.incrementAndGet();
+        quietQuit(session.driver);
+        if (sessions.waiting.get() > 0) {
+            // Wake a waiting lease so it reserves the freed slot right away
+            sessions.idle.offerFirst(SLOT_FREED);
+        }
+    }
+
+    private void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error while quitting pooled WebDriver: " + e.getMessage());
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool shut down");
+        }
+    }
+
+    private BrowserSessions sessionsFor(String browser) {
+        return pools.computeIfAbsent(browser.toLowerCase(), key -> new BrowserSessions(maxSize));
+    }
+
+    /**
+     * Idle sessions, live session count, outstanding demand and waiting leases for one browser type
+     */
+    private static class BrowserSessions {
+        private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger launching = new AtomicInteger();
+        private final AtomicInteger demand = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final int capacity;
+
+        BrowserSessions(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Reserve a slot for a new session if the pool is below capacity
+         * @return true if a slot was reserved
+         */
+        boolean tryReserve() {
+            int current;
+            do {
+                current = total.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!total.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    /**
+     * WebDriver session tracked by the pool
+     */
+    private static class PooledSession {
+        private final String browser;
+        private final WebDriver driver;
+        private int leaseCount;
+
+        PooledSession(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.automation.framework.driver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a session state reset with the time spent in each step.
+ * A reset that is not clean means the session may still carry state from
+ * the previous test and must be discarded rather than reused.
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class SessionResetReport {
+    
+    private final Map<String, Long> stepNanos = new LinkedHashMap<>();
+    private String failedStep;
+    private Exception failure;
+    
+    void recordStep(String step, long nanos) {
+        stepNanos.put(step, nanos);
+    }
+    
+    void recordFailure(String step, long nanos, Exception e) {
+        stepNanos.put(step, nanos);
+        this.failedStep = step;
+        this.failure = e;
+    }
+    
+    /**
+     * Check if every reset step succeeded
+     * @return true if the session is clean and safe to reuse
+     */
+    public boolean isClean() {
+        return failedStep == null;
+    }
+    
+    /**
+     * Get the step that failed
+     * @return Step name, or null if the reset was clean
+     */
+    public String getFailedStep() {
+        return failedStep;
+    }
+    
+    /**
+     * Get the exception that made the reset fail
+     * @return Failure cause, or null if the reset was clean
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+    
+    /**
+     * Get the time spent in each step, in execution order
+     * @return Step name to duration in nanoseconds
+     */
+    public Map<String, Long> getStepTimings() {
+        return Collections.unmodifiableMap(stepNanos);
+    }
+    
+    /**
+     * Get total reset duration
+     * @return Total duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (long nanos : stepNanos.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(isClean() ? "Session reset" : "Session reset FAILED at " + failedStep);
+        summary.append(" in ").append(TimeUnit.NANOSECONDS.toMillis(getTotalNanos())).append(" ms [");
+        String separator = "";
+        for (Map.Entry<String, Long> step : stepNanos.entrySet()) {
+            summary.append(separator).append(step.getKey()).append('=')
+                .append(TimeUnit.NANOSECONDS.toMillis(step.getValue())).append("ms");
+            separator = ", ";
+        }
+        return summary.append(']').toString();
+    }
+}
@@ -1,19 +1,38 @@
 package com.automation.framework.pages;
 
+import com.automation.framework.config.ConfigManager;
 import com.automation.framework.driver.DriverFactory;
 import com.automation.framework.utils.ExtentReportManager;
+import com.automation.framework.utils.ScreenshotUtils;
+import com.automation.framework.waits.NegativeWaitTracker;
+import com.automation.framework.waits.WaitCondition;
+import com.automation.framework.waits.WaitConditions;
+import com.automation.framework.waits.WaitEngine;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Base Page class containing common functionality for all page objects
@@ -24,9 +43,46 @@ import java.util.List;
 public abstract class BasePage {
     
     protected final Logger logger = LogManager.getLogger(this.getClass());
+    
+    private static final String SNAPSHOT_SCRIPT =
+        "var locators = arguments[0], props = arguments[1], attrs = arguments[2];"
+        + "function find(l) {"
+        + "  if (l.using === 'css selector') { return Array.prototype.slice.call(document.querySelectorAll(l.value)); }"
+        + "  if (l.using === 'tag name') { return Array.prototype.slice.call(document.getElementsByTagName(l.value)); }"
+        + "  if (l.using === 'xpath') {"
+        + "    var r = document.evaluate(l.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];"
+        + "    for (var i = 0; i < r.snapshotLength; i++) { out.push(r.snapshotItem(i)); }"
+        + "    return out;"
+        + "  }"
+        + "  var links = Array.prototype.slice.call(document.getElementsByTagName('a'));"
+        + "  return links.filter(function (a) {"
+        + "    var t = (a.innerText || '').trim();"
+        + "    return l.using === 'link text' ? t === l.value : t.indexOf(l.value) >= 0;"
+        + "  });"
+        + "}"
+        + "function visible(e) {"
+        + "  var s = window.getComputedStyle(e);"
+        + "  return s.display !== 'none' && s.visibility !== 'hidden' && e.getClientRects().length > 0;"
+        + "}"
+        + "return locators.map(function (l) {"
+        + "  var els = find(l), e = els[0], r = {count: els.length, attributes: {}};"
+        + "  if (!e) { return r; }"
+        + "  if (props.indexOf('TEXT') >= 0) { r.text = visible(e) ? (e.innerText || '').trim() : ''; }"
+        + "  if (props.indexOf('DISPLAYED') >= 0) { r.displayed = visible(e); }"
+        + "  if (props.indexOf('ENABLED') >= 0) { r.enabled = !e.disabled; }"
+        + "  attrs.forEach(function (a) {"
+        + "    var p = e[a];"
+        + "    r.attributes[a] = (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function')"
+        + "      ? String(p) : e.getAttribute(a);"
+        + "  });"
+        + "  return r;"
+        + "});";
+    
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected Actions actions;
+    protected WaitEngine waitEngine;
+    private ElementCache elementCache;
     
     /**
      * Constructor to initialize BasePage
@@ -35,6 +91,182 @@ public abstract class BasePage {
         this.driver = DriverFactory.getDriver();
         this.wait = DriverFactory.getWait();
         this.actions = new Actions(driver);
+        this.waitEngine = new WaitEngine(driver,
+            Duration.ofSeconds(ConfigManager.getInstance().getExplicitWait()));
+        if (ConfigManager.getInstance().getBooleanProperty("element.cache.enabled", false)) {
+            enableElementCache();
+        }
+    }
+    
+    /**
+     * Enable the element cache for this page. Repeated actions on the same
+     * locator then reuse the resolved element instead of waiting and finding
+     * it again; stale elements are re-found transparently.
+     */
+    protected void enableElementCache() {
+        if (elementCache == null) {
+            elementCache = new ElementCache();
+        }
+    }
+    
+    /**
+     * Get element cache statistics for this page
+     * @return Cache statistics summary, or null if the cache is disabled
+     */
+    public String getElementCacheStatistics() {
+        return elementCache != null ? elementCache.toString() : null;
+    }
+    
+    /**
+     * Resolve element from the cache, or wait for it and cache the result
+     * @param locator Element locator
+     * @param condition Wait condition used on a cache miss
+     * @return WebElement
+     */
+    private WebElement resolveElement(By locator, Function<By, WaitCondition<WebElement>> condition) {
+        return resolveElement(locator, condition, false);
+    }
+    
+    /**
+     * Resolve element from the cache, or wait for it and cache the result
+     * @param locator Element locator
+     * @param condition Wait condition used on a cache miss
+     * @param verifyCached Probe a cache hit and re-find it if it went stale;
+     *                     needed when the element is handed to code outside withElement
+     * @return WebElement
+     */
+    private WebElement resolveElement(By locator, Function<By, WaitCondition<WebElement>> condition,
+                                      boolean verifyCached) {
+        if (elementCache != null) {
+            WebElement cached = elementCache.get(locator);
+            if (cached != null && (!verifyCached || isAttached(cached))) {
+                return cached;
+            }
+            if (cached != null) {
+                logger.debug("Cached element went stale, finding again: " + locator.toString());
+                elementCache.markStale(locator);
+            }
+        }
+        WebElement element = waitEngine.until(condition.apply(locator));
+        if (elementCache != null) {
+            elementCache.put(locator, element);
+        }
+        return element;
+    }
+    
+    /**
+     * Cheap probe whether an element reference is still attached to the DOM
+     * @param element Element reference
+     * @return false if the element went stale
+     */
+    private boolean isAttached(WebElement element) {
+        try {
+            element.isEnabled();
+            return true;
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Run an action on an element, re-finding it once if the cached
+     * reference went stale
+     * @param locator Element locator
+     * @param condition Wait condition used when the element has to be found
+     * @param action Action to perform on the element
+     * @param <T> Result type
+     * @return Action result
+     */
+    private <T> T withElement(By locator, Function<By, WaitCondition<WebElement>> condition,
+                              Function<WebElement, T> action) {
+        WebElement element = resolveElement(locator, condition);
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            if (elementCache == null) {
+                throw e;
+            }
+            logger.debug("Cached element went stale, finding again: " + locator.toString());
+            elementCache.markStale(locator);
+            return action.apply(resolveElement(locator, condition));
+        }
+    }
+    
+    /**
+     * Run an action on a present element, re-finding it once if stale
+     * @param locator Element locator
+     * @param action Action to perform on the element
+     * @param <T> Result type
+     * @return Action result
+     */
+    private <T> T withElement(By locator, Function<WebElement, T> action) {
+        return withElement(locator, WaitConditions::presenceOf, action);
+    }
+    
+    /**
+     * Capture text, visibility, enabled state and attributes of many
+     * elements in a single executeScript round-trip instead of one or more
+     * WebDriver calls per element and property. Only the first match of
+     * each locator is inspected; the match count covers all of them.
+     * @param locators Element locators
+     * @param properties Properties to capture
+     * @param attributes Attribute names to capture
+     * @return Snapshot of element states
+     */
+    @SuppressWarnings("unchecked")
+    protected PageSnapshot snapshot(Collection<By> locators, Set<ElementProperty> properties, String... attributes) {
+        List<Map<String, Object>> encodedLocators = new ArrayList<>();
+        for (By locator : locators) {
+            if (!(locator instanceof By.Remotable)) {
+                throw new IllegalArgumentException("Locator cannot be used in a snapshot: " + locator);
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            Map<String, Object> encoded = new HashMap<>();
+            encoded.put("using", parameters.using());
+            encoded.put("value", parameters.value());
+            encodedLocators.add(encoded);
+        }
+        List<String> propertyNames = new ArrayList<>();
+        for (ElementProperty property : properties) {
+            propertyNames.add(property.name());
+        }
+        
+        long start = System.currentTimeMillis();
+        List<Map<String, Object>> results = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+            .executeScript(SNAPSHOT_SCRIPT, encodedLocators, propertyNames, Arrays.asList(attributes));
+        long captureMillis = System.currentTimeMillis() - start;
+        
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        int index = 0;
+        for (By locator : locators) {
+            Map<String, Object> result = results.get(index++);
+            Map<String, String> attributeValues = new HashMap<>();
+            Map<String, Object> rawAttributes = (Map<String, Object>) result.get("attributes");
+            if (rawAttributes != null) {
+                for (Map.Entry<String, Object> attribute : rawAttributes.entrySet()) {
+                    attributeValues.put(attribute.getKey(),
+                        attribute.getValue() != null ? String.valueOf(attribute.getValue()) : null);
+                }
+            }
+            states.put(locator, new ElementState(locator,
+                ((Number) result.get("count")).intValue(),
+                (String) result.get("text"),
+                (Boolean) result.get("displayed"),
+                (Boolean) result.get("enabled"),
+                attributeValues));
+        }
+        
+        logger.debug("Captured snapshot of " + states.size() + " locators in " + captureMillis + " ms");
+        return new PageSnapshot(states, captureMillis);
+    }
+    
+    /**
+     * Capture text, visibility and enabled state of many elements in one round-trip
+     * @param locators Element locators
+     * @return Snapshot of element states
+     */
+    protected PageSnapshot snapshot(By... locators) {
+        return snapshot(Arrays.asList(locators), EnumSet.allOf(ElementProperty.class));
     }
     
     /**
@@ -44,7 +276,8 @@ public abstract class BasePage {
      */
     protected WebElement findElement(By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            // The caller acts on the element directly, so a cache hit is checked before it is returned
+            WebElement element = resolveElement(locator, WaitConditions::presenceOf, true);
             logger.debug("Element found: " + locator.toString());
             return element;
         } catch (Exception e) {
@@ -61,7 +294,7 @@ public abstract class BasePage {
      */
     protected List<WebElement> findElements(By locator) {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            waitEngine.until(WaitConditions.presenceOf(locator));
             List<WebElement> elements = driver.findElements(locator);
             logger.debug("Elements found: " + elements.size() + " for locator: " + locator.toString());
             return elements;
@@ -77,8 +310,19 @@ public abstract class BasePage {
      */
     protected void click(By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-            element.click();
+            try {
+                withElement(locator, WaitConditions::elementToBeClickable, element -> {
+                    element.click();
+                    return null;
+                });
+            } catch (ElementNotInteractableException e) {
+                if (elementCache == null) {
+                    throw e;
+                }
+                // Cached element is attached but not clickable yet, wait for it like an uncached click
+                elementCache.markStale(locator);
+                waitEngine.until(WaitConditions.elementToBeClickable(locator)).click();
+            }
             logger.info("Clicked on element: " + locator.toString());
             ExtentReportManager.logInfo("Clicked on element: " + locator.toString());
         } catch (Exception e) {
@@ -95,9 +339,11 @@ public abstract class BasePage {
      */
     protected void enterText(By locator, String text) {
         try {
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            element.clear();
-            element.sendKeys(text);
+            withElement(locator, element -> {
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            });
             logger.info("Entered text '" + text + "' in element: " + locator.toString());
             ExtentReportManager.logInfo("Entered text '" + text + "' in element: " + locator.toString());
         } catch (Exception e) {
@@ -114,8 +360,7 @@ public abstract class BasePage {
      */
     protected String getText(By locator) {
         try {
-            WebElement element = findElement(locator);
-            String text = element.getText();
+            String text = withElement(locator, WebElement::getText);
             logger.info("Retrieved text '" + text + "' from element: " + locator.toString());
             return text;
         } catch (Exception e) {
@@ -132,8 +377,7 @@ public abstract class BasePage {
      */
     protected String getAttribute(By locator, String attributeName) {
         try {
-            WebElement element = findElement(locator);
-            String attributeValue = element.getAttribute(attributeName);
+            String attributeValue = withElement(locator, element -> element.getAttribute(attributeName));
             logger.info("Retrieved attribute '" + attributeName + "' value '" + attributeValue + "' from element: " + locator.toString());
             return attributeValue;
         } catch (Exception e) {
@@ -149,8 +393,7 @@ public abstract class BasePage {
      */
     protected boolean isDisplayed(By locator) {
         try {
-            WebElement element = findElement(locator);
-            boolean isDisplayed = element.isDisplayed();
+            boolean isDisplayed = withElement(locator, WebElement::isDisplayed);
             logger.info("Element display status: " + isDisplayed + " for locator: " + locator.toString());
             return isDisplayed;
         } catch (Exception e) {
@@ -159,6 +402,43 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Check if element is present right now, without any waiting
+     * @param locator Element locator
+     * @return true if at least one matching element is in the DOM
+     */
+    protected boolean isPresentNow(By locator) {
+        long start = System.nanoTime();
+        boolean present = DriverFactory.withoutImplicitWait(driver,
+            () -> !driver.findElements(locator).isEmpty());
+        if (!present) {
+            NegativeWaitTracker.record(System.nanoTime() - start);
+        }
+        logger.debug("Element present now: " + present + " for locator: " + locator.toString());
+        return present;
+    }
+    
+    /**
+     * Check that an element is absent, or disappears, within a duration
+     * @param locator Element locator
+     * @param timeout Maximum time to wait for absence
+     * @return true if no matching element is in the DOM within the timeout
+     */
+    protected boolean isAbsentWithin(By locator, Duration timeout) {
+        long start = System.nanoTime();
+        try {
+            waitEngine.until(WaitConditions.of("absenceOf",
+                d -> d.findElements(locator).isEmpty()), timeout);
+            NegativeWaitTracker.record(System.nanoTime() - start);
+            logger.debug("Element absent: " + locator.toString());
+            return true;
+        } catch (TimeoutException e) {
+            // Timed-out waits are already accounted for by the wait engine
+            logger.debug("Element still present after " + timeout.toMillis() + " ms: " + locator.toString());
+            return false;
+        }
+    }
+    
     /**
      * Check if element is enabled
      * @param locator Element locator
@@ -166,8 +446,7 @@ public abstract class BasePage {
      */
     protected boolean isEnabled(By locator) {
         try {
-            WebElement element = findElement(locator);
-            boolean isEnabled = element.isEnabled();
+            boolean isEnabled = withElement(locator, WebElement::isEnabled);
             logger.info("Element enabled status: " + isEnabled + " for locator: " + locator.toString());
             return isEnabled;
         } catch (Exception e) {
@@ -183,8 +462,7 @@ public abstract class BasePage {
      */
     protected void waitForElementVisible(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            waitEngine.until(WaitConditions.visibilityOf(locator), Duration.ofSeconds(timeoutSeconds));
             logger.info("Element became visible: " + locator.toString());
         } catch (Exception e) {
             logger.error("Element did not become visible within " + timeoutSeconds + " seconds: " + locator.toString(), e);
@@ -199,8 +477,7 @@ public abstract class BasePage {
      */
     protected void waitForElementClickable(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            customWait.until(ExpectedConditions.elementToBeClickable(locator));
+            waitEngine.until(WaitConditions.elementToBeClickable(locator), Duration.ofSeconds(timeoutSeconds));
             logger.info("Element became clickable: " + locator.toString());
         } catch (Exception e) {
             logger.error("Element did not become clickable within " + timeoutSeconds + " seconds: " + locator.toString(), e);
@@ -208,6 +485,27 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Wait for a condition with the default explicit wait timeout
+     * @param condition Condition to wait for
+     * @param <T> Result type
+     * @return Condition result
+     */
+    protected <T> T waitFor(WaitCondition<T> condition) {
+        return waitEngine.until(condition);
+    }
+    
+    /**
+     * Wait for a condition
+     * @param condition Condition to wait for
+     * @param timeout Maximum time to wait
+     * @param <T> Result type
+     * @return Condition result
+     */
+    protected <T> T waitFor(WaitCondition<T> condition, Duration timeout) {
+        return waitEngine.until(condition, timeout);
+    }
+    
     /**
      * Select option from dropdown by visible text
      * @param locator Dropdown locator
@@ -215,9 +513,10 @@ public abstract class BasePage {
      */
     protected void selectByText(By locator, String optionText) {
         try {
-            WebElement dropdown = findElement(locator);
-            Select select = new Select(dropdown);
-            select.selectByVisibleText(optionText);
+            withElement(locator, dropdown -> {
+                new Select(dropdown).selectByVisibleText(optionText);
+                return null;
+            });
             logger.info("Selected option '" + optionText + "' from dropdown: " + locator.toString());
             ExtentReportManager.logInfo("Selected option '" + optionText + "' from dropdown");
         } catch (Exception e) {
@@ -234,9 +533,10 @@ public abstract class BasePage {
      */
     protected void selectByValue(By locator, String value) {
         try {
-            WebElement dropdown = findElement(locator);
-            Select select = new Select(dropdown);
-            select.selectByValue(value);
+            withElement(locator, dropdown -> {
+                new Select(dropdown).selectByValue(value);
+                return null;
+            });
             logger.info("Selected option with value '" + value + "' from dropdown: " + locator.toString());
             ExtentReportManager.logInfo("Selected option with value '" + value + "' from dropdown");
         } catch (Exception e) {
@@ -252,8 +552,10 @@ public abstract class BasePage {
      */
     protected void hoverOver(By locator) {
         try {
-            WebElement element = findElement(locator);
-            actions.moveToElement(element).perform();
+            withElement(locator, element -> {
+                actions.moveToElement(element).perform();
+                return null;
+            });
             logger.info("Hovered over element: " + locator.toString());
             ExtentReportManager.logInfo("Hovered over element");
         } catch (Exception e) {
@@ -268,8 +570,10 @@ public abstract class BasePage {
      */
     protected void doubleClick(By locator) {
         try {
-            WebElement element = findElement(locator);
-            actions.doubleClick(element).perform();
+            withElement(locator, element -> {
+                actions.doubleClick(element).perform();
+                return null;
+            });
             logger.info("Double clicked on element: " + locator.toString());
             ExtentReportManager.logInfo("Double clicked on element");
         } catch (Exception e) {
@@ -284,8 +588,10 @@ public abstract class BasePage {
      */
     protected void rightClick(By locator) {
         try {
-            WebElement element = findElement(locator);
-            actions.contextClick(element).perform();
+            withElement(locator, element -> {
+                actions.contextClick(element).perform();
+                return null;
+            });
             logger.info("Right clicked on element: " + locator.toString());
             ExtentReportManager.logInfo("Right clicked on element");
         } catch (Exception e) {
@@ -300,8 +606,10 @@ public abstract class BasePage {
      */
     protected void scrollToElement(By locator) {
         try {
-            WebElement element = findElement(locator);
-            actions.scrollToElement(element).perform();
+            withElement(locator, element -> {
+                actions.scrollToElement(element).perform();
+                return null;
+            });
             logger.info("Scrolled to element: " + locator.toString());
         } catch (Exception e) {
             logger.error("Failed to scroll to element: " + locator.toString(), e);
@@ -309,6 +617,27 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Take screenshot of a single element
+     * @param locator Element locator
+     * @param name Screenshot name
+     * @return Screenshot file path (written asynchronously), or null if capture failed
+     */
+    protected String takeElementScreenshot(By locator, String name) {
+        return withElement(locator, WaitConditions::visibilityOf,
+            element -> ScreenshotUtils.takeElementScreenshot(name, element));
+    }
+    
+    /**
+     * Take screenshot of a page region
+     * @param region Region in CSS pixels relative to the document
+     * @param name Screenshot name
+     * @return Screenshot file path (written asynchronously), or null if capture failed
+     */
+    protected String takeRegionScreenshot(Rectangle region, String name) {
+        return ScreenshotUtils.takeRegionScreenshot(name, region);
+    }
+    
     /**
      * Get page title
      * @return Page title
@@ -335,6 +664,7 @@ public abstract class BasePage {
      */
     protected void navigateToUrl(String url) {
         try {
+            invalidateElementCache();
             driver.get(url);
             logger.info("Navigated to URL: " + url);
             ExtentReportManager.logInfo("Navigated to URL: " + url);
@@ -350,6 +680,7 @@ public abstract class BasePage {
      */
     protected void refreshPage() {
         try {
+            invalidateElementCache();
             driver.navigate().refresh();
             logger.info("Page refreshed");
             ExtentReportManager.logInfo("Page refreshed");
@@ -358,4 +689,13 @@ public abstract class BasePage {
             throw e;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Drop cached elements after the page changed underneath them
+     */
+    protected void invalidateElementCache() {
+        if (elementCache != null) {
+            elementCache.clear();
+        }
+    }
+}
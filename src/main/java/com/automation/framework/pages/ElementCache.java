@@ -0,0 +1,99 @@
+package com.automation.framework.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-page cache of resolved WebElements keyed by locator.
+ * A page object is used by a single test thread, so the cache itself is
+ * not synchronized; only the suite-wide totals are shared.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ElementCache {
+
+    // Suite-wide totals across all page instances
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+    private static final AtomicLong totalStale = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long stale;
+
+    /**
+     * Get cached element for a locator
+     * @param locator Element locator
+     * @return Cached element or null on a miss
+     */
+    public WebElement get(By locator) {
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            hits++;
+            totalHits.incrementAndGet();
+        } else {
+            misses++;
+            totalMisses.incrementAndGet();
+        }
+        return element;
+    }
+
+    /**
+     * Cache a resolved element
+     * @param locator Element locator
+     * @param element Resolved element
+     */
+    public void put(By locator, WebElement element) {
+        elements.put(locator, element);
+    }
+
+    /**
+     * Drop a cached element that turned out to be stale
+     * @param locator Element locator
+     */
+    public void markStale(By locator) {
+        elements.remove(locator);
+        stale++;
+        totalStale.incrementAndGet();
+    }
+
+    /**
+     * Drop all cached elements, e.g. after navigation
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStaleCount() {
+        return stale;
+    }
+
+    /**
+     * Get suite-wide cache statistics summary
+     * @return Hit, miss and stale re-find totals across all pages
+     */
+    public static String getTotalStatistics() {
+        return "Element cache hits: " + totalHits.get()
+            + ", misses: " + totalMisses.get()
+            + ", stale re-finds: " + totalStale.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Element cache hits: " + hits + ", misses: " + misses + ", stale re-finds: " + stale;
+    }
+}
@@ -0,0 +1,13 @@
+package com.automation.framework.pages;
+
+/**
+ * Element properties that can be read in a batched page snapshot
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public enum ElementProperty {
+    TEXT,
+    DISPLAYED,
+    ENABLED
+}
@@ -0,0 +1,88 @@
+package com.automation.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * State of the first element matching a locator, as captured by a page snapshot.
+ * Properties that were not requested are null.
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ElementState {
+    
+    private final By locator;
+    private final int count;
+    private final String text;
+    private final Boolean displayed;
+    private final Boolean enabled;
+    private final Map<String, String> attributes;
+    
+    ElementState(By locator, int count, String text, Boolean displayed, Boolean enabled,
+                 Map<String, String> attributes) {
+        this.locator = locator;
+        this.count = count;
+        this.text = text;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+    
+    public By getLocator() {
+        return locator;
+    }
+    
+    /**
+     * Check if at least one element matched the locator
+     * @return true if the element is present
+     */
+    public boolean isPresent() {
+        return count > 0;
+    }
+    
+    /**
+     * Get number of elements matching the locator
+     * @return Match count
+     */
+    public int getCount() {
+        return count;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    /**
+     * Check if the element is displayed; absent elements are not displayed
+     * @return true if displayed
+     */
+    public boolean isDisplayed() {
+        return Boolean.TRUE.equals(displayed);
+    }
+    
+    /**
+     * Check if the element is enabled; absent elements are not enabled
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(enabled);
+    }
+    
+    /**
+     * Get a requested attribute value
+     * @param name Attribute name
+     * @return Attribute value, or null if absent or not requested
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+    
+    @Override
+    public String toString() {
+        return locator + " [count=" + count + ", text=" + text + ", displayed=" + displayed
+            + ", enabled=" + enabled + ", attributes=" + attributes + "]";
+    }
+}
@@ -1,7 +1,11 @@
 package com.automation.framework.pages;
 
+import com.automation.framework.waits.WaitConditions;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
 
 /**
  * Google Maps Page Object Model
@@ -20,6 +24,19 @@ public class GoogleMapsPage extends BasePage {
     private final By routeInfo = By.cssSelector(".section-directions-trip-duration");
     private final By acceptCookiesButton = By.xpath("//button[contains(text(), 'Accept all')]");
     
+    private static final String SEARCH_RESULT_URL_PATTERN = "/maps/(search|place)/";
+    private static final String DIRECTIONS_URL_FRAGMENT = "/maps/dir/";
+    private static final Duration RENDER_QUIET_PERIOD = Duration.ofMillis(300);
+    
+    /**
+     * Constructor to initialize GoogleMapsPage with element caching,
+     * since route planning touches the same inputs several times
+     */
+    public GoogleMapsPage() {
+        super();
+        enableElementCache();
+    }
+    
     /**
      * Navigate to Google Maps
      * @param url Google Maps URL
@@ -35,7 +52,7 @@ public class GoogleMapsPage extends BasePage {
      */
     private void handleCookiesPopup() {
         try {
-            if (isDisplayed(acceptCookiesButton)) {
+            if (isPresentNow(acceptCookiesButton) && isDisplayed(acceptCookiesButton)) {
                 click(acceptCookiesButton);
                 logger.info("Accepted cookies popup");
             }
@@ -54,6 +71,44 @@ public class GoogleMapsPage extends BasePage {
         logger.info("Searched for location: " + location);
     }
     
+    /**
+     * Wait until search results are shown: the URL switches to a search or
+     * place view and the results panel stops changing
+     * @return true if results appeared within the explicit wait timeout
+     */
+    public boolean waitForSearchResults() {
+        try {
+            waitFor(WaitConditions.urlMatches(SEARCH_RESULT_URL_PATTERN));
+            waitFor(WaitConditions.domStable(RENDER_QUIET_PERIOD));
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Search results did not settle: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Wait until the directions panel is ready for input
+     */
+    public void waitForDirectionsPanel() {
+        waitFor(WaitConditions.visibilityOf(destinationInput));
+    }
+    
+    /**
+     * Wait until a route has been calculated and its summary is visible
+     * @return true if the route appeared within the explicit wait timeout
+     */
+    public boolean waitForRoute() {
+        try {
+            waitFor(WaitConditions.urlContains(DIRECTIONS_URL_FRAGMENT));
+            waitFor(WaitConditions.visibilityOf(routeInfo));
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Route was not displayed: " + e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Click on Directions button
      */
@@ -98,6 +153,20 @@ public class GoogleMapsPage extends BasePage {
         }
     }
     
+    /**
+     * Take screenshot of the route information panel only
+     * @param name Screenshot name
+     * @return Screenshot file path, or null if the panel is not available
+     */
+    public String takeRouteInfoScreenshot(String name) {
+        try {
+            return takeElementScreenshot(routeInfo, name);
+        } catch (Exception e) {
+            logger.warn("Route information not available for screenshot");
+            return null;
+        }
+    }
+    
     /**
      * Verify if route is displayed
      * @return true if route is displayed
@@ -0,0 +1,53 @@
+package com.automation.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Element states for a set of locators, captured in a single
+ * JavaScript round-trip by {@link BasePage#snapshot}
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class PageSnapshot {
+    
+    private final Map<By, ElementState> states;
+    private final long captureMillis;
+    
+    PageSnapshot(Map<By, ElementState> states, long captureMillis) {
+        this.states = Collections.unmodifiableMap(states);
+        this.captureMillis = captureMillis;
+    }
+    
+    /**
+     * Get captured state for a locator
+     * @param locator Element locator included in the snapshot
+     * @return Element state
+     */
+    public ElementState get(By locator) {
+        ElementState state = states.get(locator);
+        if (state == null) {
+            throw new IllegalArgumentException("Locator was not part of the snapshot: " + locator);
+        }
+        return state;
+    }
+    
+    /**
+     * Get all captured states in the order the locators were given
+     * @return Locator to element state
+     */
+    public Map<By, ElementState> getStates() {
+        return states;
+    }
+    
+    /**
+     * Get time taken by the snapshot round-trip
+     * @return Duration in milliseconds
+     */
+    public long getCaptureMillis() {
+        return captureMillis;
+    }
+}
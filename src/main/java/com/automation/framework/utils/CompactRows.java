@@ -0,0 +1,224 @@
+package com.automation.framework.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Column-oriented storage for the rows of one sheet. Headers are stored
+ * once per sheet and values once per column, with repeated values sharing
+ * a single String instance. Each row is a small read-only Map view over
+ * the columns, so callers written against Map&lt;String, String&gt; rows
+ * keep working while a row costs a few bytes instead of a HashMap with its
+ * own entries and key references.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+final class CompactRows {
+
+    private final String[] headers;
+    private final Map<String, Integer> columnIndex;
+    private final String[][] columns;
+    private final List<Map<String, String>> rows;
+
+    private CompactRows(String[] headers, Map<String, Integer> columnIndex, String[][] columns, int rowCount) {
+        this.headers = headers;
+        this.columnIndex = columnIndex;
+        this.columns = columns;
+        List<Map<String, String>> views = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            views.add(new Row(i));
+        }
+        this.rows = Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Start collecting rows for a sheet
+     * @param headers Column headers in file order; a repeated header keeps its first position
+     * @return Builder
+     */
+    static Builder builder(List<String> headers) {
+        return new Builder(headers);
+    }
+
+    /**
+     * Get the rows as read-only maps
+     * @return Unmodifiable row list
+     */
+    List<Map<String, String>> getRows() {
+        return rows;
+    }
+
+    /**
+     * Collects rows column by column
+     */
+    static final class Builder {
+        private final List<String> headers = new ArrayList<>();
+        private final Map<String, Integer> columnIndex = new LinkedHashMap<>();
+        private final int[] positionToColumn;
+        private final List<List<String>> columns = new ArrayList<>();
+        private final Map<String, String> pool = new HashMap<>();
+        private int rowCount;
+
+        private Builder(List<String> fileHeaders) {
+            positionToColumn = new int[fileHeaders.size()];
+            for (int i = 0; i < fileHeaders.size(); i++) {
+                String header = fileHeaders.get(i);
+                Integer column = columnIndex.get(header);
+                if (column == null) {
+                    column = headers.size();
+                    headers.add(header);
+                    columnIndex.put(header, column);
+                    columns.add(new ArrayList<>());
+                }
+                positionToColumn[i] = column;
+            }
+        }
+
+        /**
+         * Add a row given as values in file header order; missing values are empty
+         * @param values Row values
+         * @return This builder
+         */
+        Builder add(List<String> values) {
+            String[] row = new String[headers.size()];
+            for (int i = 0; i < positionToColumn.length; i++) {
+                // A repeated header takes the last value, as Map.put would
+                row[positionToColumn[i]] = i < values.size() ? values.get(i) : "";
+            }
+            return append(row);
+        }
+
+        /**
+         * Add a row given as header to value map; missing values are empty
+         * @param values Row values
+         * @return This builder
+         */
+        Builder add(Map<String, String> values) {
+            String[] row = new String[headers.size()];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = values.getOrDefault(headers.get(c), "");
+            }
+            return append(row);
+        }
+
+        private Builder append(String[] row) {
+            for (int c = 0; c < row.length; c++) {
+                columns.get(c).add(intern(row[c]));
+            }
+            rowCount++;
+            return this;
+        }
+
+        private String intern(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            String shared = pool.putIfAbsent(value, value);
+            return shared != null ? shared : value;
+        }
+
+        /**
+         * Freeze the collected rows
+         * @return Compact rows
+         */
+        CompactRows build() {
+            String[][] data = new String[columns.size()][];
+            for (int c = 0; c < data.length; c++) {
+                data[c] = columns.get(c).toArray(new String[0]);
+            }
+            return new CompactRows(headers.toArray(new String[0]),
+                Collections.unmodifiableMap(new HashMap<>(columnIndex)), data, rowCount);
+        }
+    }
+
+    /**
+     * Read-only view of one row; entries iterate in header order
+     */
+    private final class Row extends AbstractMap<String, String> {
+        private final int index;
+
+        Row(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer column = columnIndex.get(key);
+            return column != null ? columns[column][index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndex.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return headers.length;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return Arrays.asList(headers).iterator();
+                }
+
+                @Override
+                public boolean contains(Object key) {
+                    return columnIndex.containsKey(key);
+                }
+
+                @Override
+                public int size() {
+                    return headers.length;
+                }
+            };
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int column;
+
+                        @Override
+                        public boolean hasNext() {
+                            return column < headers.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (column >= headers.length) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, String> entry =
+                                new SimpleImmutableEntry<>(headers[column], columns[column][index]);
+                            column++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return headers.length;
+                }
+            };
+        }
+    }
+}
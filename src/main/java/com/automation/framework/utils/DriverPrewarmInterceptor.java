@@ -0,0 +1,78 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import com.automation.framework.driver.DriverPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestNG method interceptor that looks at the queued test methods and
+ * registers their browser demand with the DriverPool, so sessions for the
+ * next wave are launched in the background while current tests run
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class DriverPrewarmInterceptor implements IMethodInterceptor {
+    
+    private static final Logger logger = LogManager.getLogger(DriverPrewarmInterceptor.class);
+    private static final String DEFAULT_BASE_CLASS = "com.automation.tests.base.BaseTest";
+    
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!DriverPool.isEnabled() || methods.isEmpty()) {
+            return methods;
+        }
+        
+        String baseClass = ConfigManager.getInstance()
+            .getProperty("driver.prewarm.base.class", DEFAULT_BASE_CLASS);
+        Map<String, Integer> demand = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            // Only methods whose class sets up a browser create demand
+            if (!extendsClass(instance.getMethod().getRealClass(), baseClass)) {
+                continue;
+            }
+            demand.merge(resolveBrowser(), 1, Integer::sum);
+        }
+        
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            logger.info("Pre-warming " + entry.getKey() + " sessions for " + entry.getValue()
+                + " queued method(s) in test: " + context.getName());
+            DriverPool.getInstance().expectDemand(entry.getKey(), entry.getValue());
+        }
+        
+        // Scheduling order is left untouched
+        return methods;
+    }
+    
+    /**
+     * Check whether a test class is, or extends, the named base class.
+     * Compared by name so the base class does not have to be on this module's classpath.
+     * @param testClass Test class
+     * @param baseClass Fully qualified base class name
+     * @return true if the class acquires a browser through the base class
+     */
+    private boolean extendsClass(Class<?> testClass, String baseClass) {
+        for (Class<?> type = testClass; type != null; type = type.getSuperclass()) {
+            if (type.getName().equals(baseClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Resolve the browser a queued method will run with, as BaseTest does
+     * @return Browser name
+     */
+    private String resolveBrowser() {
+        return ConfigManager.getInstance().getBrowser();
+    }
+}
@@ -3,18 +3,31 @@ package com.automation.framework.utils;
 import com.automation.framework.config.ConfigManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for handling test data from Excel files
+ * Utility class for handling test data from Excel and CSV files. Sheets are
+ * read with the streaming ExcelRowReader, never as a whole workbook, so
+ * large sheets can be processed row by row with {@link #streamTestData}.
+ * Repeated lookups should go through the cached, indexed TestDataTable.
  * 
  * @author Automation Framework
  * @version 1.0
@@ -32,40 +45,132 @@ public class ExcelDataProvider {
      * @return List of test data maps
      */
     public static List<Map<String, String>> readTestData(String filePath, String sheetName) {
+        try {
+            return loadTestData(filePath, sheetName);
+        } catch (UncheckedIOException e) {
+            logger.error("Error reading Excel file: " + filePath, e);
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+    
+    /**
+     * Read test data from an Excel file, failing instead of returning no rows,
+     * so a cache never stores a read error as an empty sheet
+     * 
+     * @param filePath Path to Excel file
+     * @param sheetName Name of the sheet
+     * @return List of test data maps
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    static List<Map<String, String>> loadTestData(String filePath, String sheetName) {
         List<Map<String, String>> testData = new ArrayList<>();
+        try (ExcelRowReader reader = ExcelRowReader.open(Paths.get(filePath), sheetName)) {
+            reader.forEachRemaining(testData::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading Excel file: " + filePath, e);
+        }
+        logger.info("Successfully read " + testData.size() + " rows from " + filePath);
+        return testData;
+    }
+    
+    /**
+     * Stream test data rows from an Excel file without loading the workbook.
+     * Rows are read lazily; close the stream (try-with-resources) to release the file.
+     * 
+     * @param filePath Path to Excel file
+     * @param sheetName Name of the sheet
+     * @return Stream of test data maps, empty if the file or sheet cannot be read
+     */
+    public static Stream<Map<String, String>> streamTestData(String filePath, String sheetName) {
+        ExcelRowReader reader;
+        try {
+            reader = ExcelRowReader.open(Paths.get(filePath), sheetName);
+        } catch (IOException e) {
+            logger.error("Error reading Excel file: " + filePath, e);
+            return Stream.empty();
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+            return Stream.empty();
+        }
         
-        try (FileInputStream fileInputStream = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fileInputStream)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                logger.error("Sheet not found: " + sheetName);
-                return testData;
-            }
-            
-            // Get header row
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                logger.error("Header row not found in sheet: " + sheetName);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(reader::close);
+    }
+    
+    /**
+     * Get test data through the process-wide cache; the file is parsed again
+     * only when it changed since the last read
+     * 
+     * @param filePath Path to Excel file
+     * @param sheetName Name of the sheet
+     * @return Shared, unmodifiable list of test data maps
+     */
+    public static List<Map<String, String>> readCachedTestData(String filePath, String sheetName) {
+        return TestDataCache.getInstance().getSheet(filePath, sheetName);
+    }
+    
+    /**
+     * Get test data as an indexed table through the process-wide cache
+     * 
+     * @param filePath Path to Excel or CSV file
+     * @param sheetName Name of the sheet (ignored for CSV files)
+     * @return Shared table; indexes are built on first use of a key column
+     */
+    public static TestDataTable getTestDataTable(String filePath, String sheetName) {
+        return TestDataCache.getInstance().getTable(filePath, sheetName);
+    }
+    
+    /**
+     * Get the default test data file and sheet as an indexed table
+     * 
+     * @return Shared table
+     */
+    public static TestDataTable getDefaultTestDataTable() {
+        return getTestDataTable(getDefaultFilePath(), getDefaultSheetName());
+    }
+    
+    /**
+     * Read test data from a CSV file with a header line. Quoted fields may
+     * contain commas, line breaks and doubled quotes.
+     * 
+     * @param filePath Path to CSV file
+     * @return List of test data maps
+     */
+    public static List<Map<String, String>> readCsvData(String filePath) {
+        try {
+            return loadCsvData(filePath);
+        } catch (UncheckedIOException e) {
+            logger.error("Error reading CSV file: " + filePath, e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Read test data from a CSV file, failing instead of returning no rows
+     * 
+     * @param filePath Path to CSV file
+     * @return List of test data maps
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    static List<Map<String, String>> loadCsvData(String filePath) {
+        List<Map<String, String>> testData = new ArrayList<>();
+        
+        try (CsvReader csv = new CsvReader(filePath)) {
+            List<String> headers = csv.getHeaders();
+            if (headers.isEmpty()) {
+                logger.error("Header row not found in CSV file: " + filePath);
                 return testData;
             }
             
-            // Get all headers
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValue(cell));
-            }
-            
-            // Read data rows
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row dataRow = sheet.getRow(i);
-                if (dataRow == null) continue;
-                
-                Map<String, String> rowData = new HashMap<>();
+            List<String> values;
+            while ((values = csv.next()) != null) {
+                Map<String, String> rowData = new LinkedHashMap<>();
                 for (int j = 0; j < headers.size(); j++) {
-                    Cell cell = dataRow.getCell(j);
-                    String cellValue = (cell != null) ? getCellValue(cell) : "";
-                    rowData.put(headers.get(j), cellValue);
+                    rowData.put(headers.get(j), j < values.size() ? values.get(j) : "");
                 }
                 testData.add(rowData);
             }
@@ -73,69 +178,112 @@ public class ExcelDataProvider {
             logger.info("Successfully read " + testData.size() + " rows from " + filePath);
             
         } catch (IOException e) {
-            logger.error("Error reading Excel file: " + filePath, e);
+            throw new UncheckedIOException("Error reading CSV file: " + filePath, e);
         }
         
         return testData;
     }
     
     /**
-     * Read test data from default Excel file and sheet
+     * Read test data into a compact, column-oriented form: headers are
+     * stored once, repeated values are shared and each row is a read-only
+     * Map view, so large sheets take a fraction of the heap of HashMap rows
      * 
-     * @return List of test data maps
+     * @param filePath Path to Excel or CSV file
+     * @param sheetName Name of the sheet (ignored for CSV files)
+     * @return Unmodifiable list of read-only test data maps
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    public static List<Map<String, String>> readCompactTestData(String filePath, String sheetName) {
+        List<Map<String, String>> testData;
+        
+        if (isCsvFile(filePath)) {
+            try (CsvReader csv = new CsvReader(filePath)) {
+                CompactRows.Builder builder = CompactRows.builder(csv.getHeaders());
+                List<String> values;
+                while ((values = csv.next()) != null) {
+                    builder.add(values);
+                }
+                testData = builder.build().getRows();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading CSV file: " + filePath, e);
+            }
+        } else {
+            try (ExcelRowReader reader = ExcelRowReader.open(Paths.get(filePath), sheetName)) {
+                CompactRows.Builder builder = CompactRows.builder(reader.getHeaders());
+                reader.forEachRemaining(builder::add);
+                testData = builder.build().getRows();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading Excel file: " + filePath, e);
+            }
+        }
+        
+        logger.info("Successfully read " + testData.size() + " compact rows from " + filePath);
+        return testData;
+    }
+    
+    /**
+     * Check if a test data file is CSV rather than Excel
+     * 
+     * @param filePath Path to test data file
+     * @return true for .csv files
+     */
+    static boolean isCsvFile(String filePath) {
+        return filePath.toLowerCase().endsWith(".csv");
+    }
+    
+    /**
+     * Read test data from default Excel file and sheet (cached)
+     * 
+     * @return Shared, unmodifiable list of test data maps, empty if the file or sheet cannot be read
      */
     public static List<Map<String, String>> readDefaultTestData() {
-        String filePath = "src/test/resources/" + configManager.getProperty("test.data.file", "testdata.xlsx");
-        String sheetName = configManager.getProperty("test.data.sheet", "TestData");
-        return readTestData(filePath, sheetName);
+        String filePath = getDefaultFilePath();
+        try {
+            return readCachedTestData(filePath, getDefaultSheetName());
+        } catch (UncheckedIOException e) {
+            logger.error("Error reading test data file: " + filePath, e);
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+        }
+        return Collections.emptyList();
+    }
+    
+    private static String getDefaultFilePath() {
+        return "src/test/resources/" + configManager.getProperty("test.data.file", "testdata.xlsx");
+    }
+    
+    private static String getDefaultSheetName() {
+        return configManager.getProperty("test.data.sheet", "TestData");
     }
     
     /**
      * Get specific test data by test case name
      * 
      * @param testCaseName Name of the test case
-     * @return Test data map for the specific test case
+     * @return Test data map for the specific test case, empty if not found or the file cannot be read
      */
     public static Map<String, String> getTestDataByName(String testCaseName) {
-        List<Map<String, String>> allTestData = readDefaultTestData();
-        
-        for (Map<String, String> testData : allTestData) {
-            if (testCaseName.equals(testData.get("TestCase"))) {
-                return testData;
-            }
+        Map<String, String> testData;
+        try {
+            testData = getDefaultTestDataTable().findFirst("TestCase", testCaseName);
+        } catch (UncheckedIOException e) {
+            logger.error("Error reading test data file: " + getDefaultFilePath(), e);
+            return new HashMap<>();
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+            return new HashMap<>();
+        }
+        if (testData != null) {
+            // Copy, cached rows are shared between threads
+            return new HashMap<>(testData);
         }
         
         logger.warn("Test data not found for test case: " + testCaseName);
         return new HashMap<>();
     }
     
-    /**
-     * Get cell value as string
-     * 
-     * @param cell Excel cell
-     * @return Cell value as string
-     */
-    private static String getCellValue(Cell cell) {
-        if (cell == null) return "";
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    return String.valueOf((long) cell.getNumericCellValue());
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
-        }
-    }
-    
     /**
      * Check if Excel file exists
      * 
@@ -151,4 +299,80 @@ public class ExcelDataProvider {
             return false;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Reads CSV records one at a time; quoted fields may contain commas,
+     * line breaks and doubled quotes
+     */
+    private static final class CsvReader implements Closeable {
+        private final BufferedReader reader;
+        private final List<String> headers;
+        
+        CsvReader(String filePath) throws IOException {
+            reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+            List<String> first = readRecord();
+            headers = first != null ? first : new ArrayList<>();
+            if (!headers.isEmpty() && headers.get(0).startsWith("\uFEFF")) {
+                headers.set(0, headers.get(0).substring(1));
+            }
+        }
+        
+        List<String> getHeaders() {
+            return headers;
+        }
+        
+        /**
+         * Read the next non-blank record
+         * @return Field values, or null at end of file
+         */
+        List<String> next() throws IOException {
+            List<String> values;
+            do {
+                values = readRecord();
+            } while (values != null && values.size() == 1 && values.get(0).isEmpty());
+            return values;
+        }
+        
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (; c != -1; c = reader.read()) {
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * Streaming reader for one sheet of an xlsx file. The sheet XML is pulled
+ * row by row and only the current row is held, so memory use does not
+ * grow with the number of rows. The workbook's shared strings table is
+ * loaded into memory in full, though: its size follows the number of
+ * distinct strings in the workbook, which for generated data with a
+ * unique string per row does grow with the sheet. The first row
+ * supplies the column headers, every following row is returned as a
+ * header to value map with the same cell formatting as ExcelDataProvider.
+ * One difference from a workbook read: a shared formula's text is stored
+ * only in its anchor cell, so the other cells it covers return their
+ * cached result instead of the shifted formula. Must be closed after use.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ExcelRowReader implements Iterator<Map<String, String>>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(ExcelRowReader.class);
+
+    private final OPCPackage pkg;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+    private final Map<Integer, String> headers;
+    private Map<String, String> next;
+    private int rowsRead;
+
+    private ExcelRowReader(OPCPackage pkg, InputStream sheetStream, SharedStrings sharedStrings, StylesTable styles,
+                           boolean date1904) throws XMLStreamException {
+        this.pkg = pkg;
+        this.sheetStream = sheetStream;
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.date1904 = date1904;
+        this.xml = newXmlFactory().createXMLStreamReader(sheetStream);
+
+        Map<Integer, String> headerRow = readRow();
+        this.headers = headerRow != null ? headerRow : new TreeMap<>();
+        this.next = headerRow != null ? nextRecord() : null;
+    }
+
+    /**
+     * Open a sheet for streaming
+     * @param file xlsx file
+     * @param sheetName Sheet name
+     * @return Reader positioned after the header row
+     * @throws IOException if the file cannot be opened or is not a valid xlsx file
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    public static ExcelRowReader open(Path file, String sheetName) throws IOException {
+        OPCPackage pkg = null;
+        InputStream sheetStream = null;
+        try {
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            sheetStream = findSheet(reader, sheetName);
+            if (sheetStream == null) {
+                throw new IllegalArgumentException("Sheet not found: " + sheetName);
+            }
+            // Phonetic runs are never returned, so they are not kept in the table either
+            ExcelRowReader rows = new ExcelRowReader(pkg, sheetStream, new ReadOnlySharedStringsTable(pkg, false),
+                reader.getStylesTable(), isDate1904(reader));
+            if (rows.headers.isEmpty()) {
+                logger.error("Header row not found in sheet: " + sheetName);
+            }
+            return rows;
+        } catch (OpenXML4JException | SAXException | XMLStreamException | RuntimeException e) {
+            closeQuietly(sheetStream);
+            if (pkg != null) {
+                pkg.revert();
+            }
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new IOException("Failed to open sheet " + sheetName + " in " + file, e);
+        }
+    }
+
+    private static XMLInputFactory newXmlFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Read the date1904 flag of the workbook: dates in workbooks created by
+     * older Mac versions of Excel count days from 1904 instead of 1900
+     * @param reader Workbook reader
+     * @return true if serial dates are based on 1904
+     */
+    private static boolean isDate1904(XSSFReader reader)
+            throws IOException, OpenXML4JException, XMLStreamException {
+        try (InputStream workbook = reader.getWorkbookData()) {
+            XMLStreamReader xml = newXmlFactory().createXMLStreamReader(workbook);
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    if ("workbookPr".equals(xml.getLocalName())) {
+                        String value = xml.getAttributeValue(null, "date1904");
+                        return "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                    if ("sheets".equals(xml.getLocalName())) {
+                        // workbookPr precedes the sheet list
+                        return false;
+                    }
+                }
+                return false;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName)
+            throws IOException, OpenXML4JException {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName.equals(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        return null;
+    }
+
+    /**
+     * Get column headers in column order
+     * @return Header names
+     */
+    public List<String> getHeaders() {
+        return new ArrayList<>(headers.values());
+    }
+
+    /**
+     * Get number of data rows returned so far
+     * @return Row count
+     */
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        Map<String, String> current = next;
+        rowsRead++;
+        try {
+            next = nextRecord();
+        } catch (XMLStreamException e) {
+            throw new UncheckedIOException(new IOException("Failed to read sheet row " + (rowsRead + 1), e));
+        }
+        return current;
+    }
+
+    @Override
+    public void close() {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            logger.debug("Failed to close sheet parser: " + e.getMessage());
+        }
+        closeQuietly(sheetStream);
+        // Read-only package: revert closes it without writing anything back
+        pkg.revert();
+    }
+
+    private Map<String, String> nextRecord() throws XMLStreamException {
+        Map<Integer, String> cells = readRow();
+        if (cells == null) {
+            return null;
+        }
+        Map<String, String> record = new LinkedHashMap<>();
+        for (Map.Entry<Integer, String> header : headers.entrySet()) {
+            record.put(header.getValue(), cells.getOrDefault(header.getKey(), ""));
+        }
+        return record;
+    }
+
+    /**
+     * Pull the next row element
+     * @return Cell values by column index, or null at the end of the sheet
+     */
+    private Map<Integer, String> readRow() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+        }
+        if (!xml.isStartElement() || !"row".equals(xml.getLocalName())) {
+            return null;
+        }
+
+        Map<Integer, String> cells = new TreeMap<>();
+        int column = -1;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String reference = xml.getAttributeValue(null, "r");
+                column = reference != null
+                    ? CellReference.convertColStringToIndex(reference.replaceAll("\\d", "")) : column + 1;
+                cells.put(column, readCell());
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Read a cell element, formatted like ExcelDataProvider formats cells
+     * @return Cell value
+     */
+    private String readCell() throws XMLStreamException {
+        String type = xml.getAttributeValue(null, "t");
+        String style = xml.getAttributeValue(null, "s");
+        String value = null;
+        String formula = null;
+        StringBuilder inline = new StringBuilder();
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "v":
+                    value = xml.getElementText();
+                    break;
+                case "f":
+                    formula = xml.getElementText();
+                    break;
+                case "t":
+                    inline.append(xml.getElementText());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (formula != null && !formula.isEmpty()) {
+            return formula;
+        }
+        if ("inlineStr".equals(type)) {
+            return inline.toString();
+        }
+        if (value == null) {
+            return "";
+        }
+        if (type == null || "n".equals(type)) {
+            double number = Double.parseDouble(value);
+            return isDateStyle(style)
+                ? DateUtil.getJavaDate(number, date1904).toString() : String.valueOf((long) number);
+        }
+        switch (type) {
+            case "s":
+                return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+            case "str":
+                return value;
+            case "b":
+                return String.valueOf("1".equals(value));
+            default:
+                return "";
+        }
+    }
+
+    private boolean isDateStyle(String style) {
+        if (style == null || styles == null) {
+            return false;
+        }
+        return dateStyles.computeIfAbsent(Integer.parseInt(style), index -> {
+            XSSFCellStyle cellStyle = styles.getStyleAt(index);
+            return cellStyle != null
+                && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        });
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close sheet stream: " + e.getMessage());
+            }
+        }
+    }
+}
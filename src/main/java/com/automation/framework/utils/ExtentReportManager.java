@@ -1,5 +1,6 @@
 package com.automation.framework.utils;
 
+import com.automation.framework.config.ConfigManager;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
@@ -8,11 +9,25 @@ import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
- * ExtentReports utility for generating HTML reports
+ * ExtentReports utility for generating HTML reports.
+ * Calls only record events; they are applied to the shared report by a
+ * single dispatcher thread, so test threads never block on report updates.
+ * With report.streaming.enabled, finished tests are persisted to a JSON
+ * lines stream and evicted from memory. The HTML is built from the stream
+ * afterwards with ReportStream, or at the end of the run when
+ * report.stream.rebuild.html is set.
  * 
  * @author Automation Framework
  * @version 1.0
@@ -20,34 +35,108 @@ import java.util.Date;
 public class ExtentReportManager {
     
     private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
-    private static ExtentReports extentReports;
-    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static volatile ExtentReports extentReports;
+    private static final ThreadLocal<TestHandle> extentTest = new ThreadLocal<>();
+    private static final ReportEventDispatcher dispatcher = new ReportEventDispatcher();
     private static final String REPORTS_DIR = "reports/";
+    static final String SHARD_DIR = REPORTS_DIR + "shards/";
+    private static final long REPORT_TIMEOUT_SECONDS = 60;
+    private static volatile String reportPath;
+    private static volatile ReportStream reportStream;
+    private static volatile boolean rebuildHtml;
     
     /**
-     * Initialize ExtentReports
+     * Initialize ExtentReports. Safe to call from many threads; the report
+     * is created exactly once and only published when fully set up.
      */
     public static void initReports() {
         if (extentReports == null) {
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String reportPath = REPORTS_DIR + "ExtentReport_" + timestamp + ".html";
-            
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            sparkReporter.config().setDocumentTitle("Automation Test Report");
-            sparkReporter.config().setReportName("Test Execution Report");
-            sparkReporter.config().setTimeStampFormat("dd/MM/yyyy hh:mm:ss");
-            
-            extentReports = new ExtentReports();
-            extentReports.attachReporter(sparkReporter);
-            
-            // Add system information
-            extentReports.setSystemInfo("OS", System.getProperty("os.name"));
-            extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extentReports.setSystemInfo("User", System.getProperty("user.name"));
-            
-            logger.info("ExtentReports initialized: " + reportPath);
+            synchronized (ExtentReportManager.class) {
+                if (extentReports == null) {
+                    initialize();
+                }
+            }
+        }
+    }
+    
+    /**
+     * One-shot startup: create the report, start streaming if configured,
+     * then publish the report through the volatile field
+     */
+    private static void initialize() {
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        reportPath = REPORTS_DIR + "ExtentReport_" + timestamp + ".html";
+        ExtentReports reports = newReports(reportPath);
+        
+        // A shard always streams its results so ReportMerger can combine the shards later
+        ConfigManager config = ConfigManager.getInstance();
+        String shardId = config.getProperty("report.shard.id", "").trim();
+        if (!shardId.isEmpty()) {
+            reports.setSystemInfo("Shard", shardId);
+        }
+        if (!shardId.isEmpty() || config.getBooleanProperty("report.streaming.enabled", false)) {
+            Path streamFile = shardId.isEmpty()
+                ? Paths.get(REPORTS_DIR + "ExtentReport_" + timestamp + ".jsonl")
+                : Paths.get(SHARD_DIR + shardId.replaceAll("[^a-zA-Z0-9_-]", "_") + ".jsonl");
+            startStreaming(reports, streamFile,
+                config.getIntProperty("report.stream.flush.threshold", 25),
+                config.getIntProperty("report.stream.flush.interval.seconds", 30));
+            rebuildHtml = config.getBooleanProperty("report.stream.rebuild.html", false);
         }
+        
+        extentReports = reports;
+        logger.info("ExtentReports initialized: " + reportPath);
+    }
+    
+    /**
+     * Get the shared report
+     * @return ExtentReports, or null before initReports
+     */
+    public static ExtentReports getReports() {
+        return extentReports;
+    }
+    
+    /**
+     * Create a report writing to an HTML file
+     * @param reportPath HTML report path
+     * @return Configured ExtentReports
+     */
+    static ExtentReports newReports(String reportPath) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setDocumentTitle("Automation Test Report");
+        sparkReporter.config().setReportName("Test Execution Report");
+        sparkReporter.config().setTimeStampFormat("dd/MM/yyyy hh:mm:ss");
+        
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        
+        // Add system information
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("User", System.getProperty("user.name"));
+        return reports;
+    }
+    
+    /**
+     * Persist finished tests to a stream file when the threshold is reached
+     * or the interval elapses, whichever comes first
+     * @param reports Report finished tests are evicted from
+     * @param streamFile JSON lines stream file
+     * @param threshold Finished tests per flush
+     * @param intervalSeconds Maximum time between flushes
+     */
+    private static void startStreaming(ExtentReports reports, Path streamFile, int threshold, int intervalSeconds) {
+        reportStream = new ReportStream(streamFile, reports, threshold);
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extent-report-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(() -> dispatcher.submit(reportStream::flush),
+            intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Report streaming to " + streamFile + " every " + threshold + " test(s) or "
+            + intervalSeconds + " s");
     }
     
     /**
@@ -56,8 +145,9 @@ public class ExtentReportManager {
      * @param description Test description
      */
     public static void createTest(String testName, String description) {
-        ExtentTest test = extentReports.createTest(testName, description);
-        extentTest.set(test);
+        TestHandle handle = new TestHandle();
+        extentTest.set(handle);
+        dispatcher.publish(() -> handle.create(() -> extentReports.createTest(testName, description)));
         logger.info("Created test in report: " + testName);
     }
     
@@ -68,18 +158,48 @@ public class ExtentReportManager {
      * @param category Test category
      */
     public static void createTest(String testName, String description, String category) {
-        ExtentTest test = extentReports.createTest(testName, description);
-        test.assignCategory(category);
-        extentTest.set(test);
+        TestHandle handle = new TestHandle();
+        extentTest.set(handle);
+        dispatcher.publish(() -> handle.create(
+            () -> extentReports.createTest(testName, description).assignCategory(category)));
         logger.info("Created test with category '" + category + "': " + testName);
     }
     
     /**
-     * Get current test instance
+     * Get current test instance. Waits until the dispatcher has created it;
+     * prefer the log methods, which do not wait.
      * @return ExtentTest instance
      */
     public static ExtentTest getTest() {
-        return extentTest.get();
+        TestHandle handle = extentTest.get();
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return handle.test.get(REPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            logger.error("Report test was not created: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Record an event for the current test, applied in order on the dispatcher thread
+     * @param event Action on the current test
+     */
+    private static void record(Consumer<ExtentTest> event) {
+        TestHandle handle = extentTest.get();
+        if (handle != null) {
+            dispatcher.publish(() -> {
+                ExtentTest test = handle.test.getNow(null);
+                if (test != null) {
+                    event.accept(test);
+                }
+            });
+        }
     }
     
     /**
@@ -87,9 +207,7 @@ public class ExtentReportManager {
      * @param message Info message
      */
     public static void logInfo(String message) {
-        if (getTest() != null) {
-            getTest().log(Status.INFO, message);
-        }
+        record(test -> test.log(Status.INFO, message));
     }
     
     /**
@@ -97,9 +215,7 @@ public class ExtentReportManager {
      * @param message Pass message
      */
     public static void logPass(String message) {
-        if (getTest() != null) {
-            getTest().log(Status.PASS, message);
-        }
+        record(test -> test.log(Status.PASS, message));
     }
     
     /**
@@ -107,9 +223,7 @@ public class ExtentReportManager {
      * @param message Fail message
      */
     public static void logFail(String message) {
-        if (getTest() != null) {
-            getTest().log(Status.FAIL, message);
-        }
+        record(test -> test.log(Status.FAIL, message));
     }
     
     /**
@@ -117,9 +231,7 @@ public class ExtentReportManager {
      * @param message Skip message
      */
     public static void logSkip(String message) {
-        if (getTest() != null) {
-            getTest().log(Status.SKIP, message);
-        }
+        record(test -> test.log(Status.SKIP, message));
     }
     
     /**
@@ -127,9 +239,7 @@ public class ExtentReportManager {
      * @param message Warning message
      */
     public static void logWarning(String message) {
-        if (getTest() != null) {
-            getTest().log(Status.WARNING, message);
-        }
+        record(test -> test.log(Status.WARNING, message));
     }
     
     /**
@@ -138,14 +248,32 @@ public class ExtentReportManager {
      * @param description Screenshot description
      */
     public static void addScreenshot(String screenshotPath, String description) {
-        if (getTest() != null && screenshotPath != null) {
-            try {
-                getTest().addScreenCaptureFromPath(screenshotPath, description);
-                logger.info("Screenshot added to report: " + screenshotPath);
-            } catch (Exception e) {
-                logger.error("Failed to add screenshot to report: " + e.getMessage());
-            }
+        if (screenshotPath != null) {
+            String reportPath = toReportRelativePath(screenshotPath);
+            record(test -> {
+                try {
+                    test.addScreenCaptureFromPath(reportPath, description);
+                } catch (Exception e) {
+                    logger.error("Failed to add screenshot to report: " + e.getMessage());
+                }
+            });
+            logger.info("Screenshot added to report: " + screenshotPath);
+        }
+    }
+    
+    /**
+     * Resolve a screenshot path relative to the report directory, so the
+     * HTML report links to the stored file wherever the reports folder is opened
+     * @param screenshotPath Screenshot file path
+     * @return Path relative to the reports directory, or the original path if outside it
+     */
+    private static String toReportRelativePath(String screenshotPath) {
+        Path reportsDir = Paths.get(REPORTS_DIR).toAbsolutePath().normalize();
+        Path screenshot = Paths.get(screenshotPath).toAbsolutePath().normalize();
+        if (screenshot.startsWith(reportsDir)) {
+            return reportsDir.relativize(screenshot).toString().replace('\\', '/');
         }
+        return screenshotPath;
     }
     
     /**
@@ -184,15 +312,62 @@ public class ExtentReportManager {
      */
     public static void flushReports() {
         if (extentReports != null) {
-            extentReports.flush();
+            dispatcher.runAfterPending(reportStream != null ? ExtentReportManager::finishStream
+                : extentReports::flush, REPORT_TIMEOUT_SECONDS);
             logger.info("ExtentReports flushed and saved");
         }
     }
     
+    /**
+     * Persist remaining finished tests. The HTML report is only written here
+     * when report.stream.rebuild.html is set: ExtentReports renders from
+     * memory, so the rebuild holds every streamed test in heap again and
+     * costs O(suite) at the end of the run. Otherwise the HTML is left to
+     * ReportStream.main, run outside the test JVM.
+     */
+    private static void finishStream() {
+        reportStream.flush();
+        Path streamFile = reportStream.getStreamFile();
+        if (!rebuildHtml) {
+            logger.info("Report stream written to " + streamFile + "; build the HTML report with "
+                + ReportStream.class.getName() + " " + streamFile + " " + reportPath);
+            return;
+        }
+        ExtentReports rebuilt = newReports(reportPath);
+        int count = ReportStream.replay(streamFile, rebuilt);
+        rebuilt.flush();
+        logger.info("Rebuilt report from " + count + " streamed test(s)");
+    }
+    
     /**
      * Clean up test from ThreadLocal
      */
     public static void removeTest() {
+        TestHandle handle = extentTest.get();
+        if (handle != null && reportStream != null) {
+            dispatcher.publish(() -> {
+                ExtentTest test = handle.test.getNow(null);
+                if (test != null) {
+                    reportStream.completed(test);
+                }
+            });
+        }
         extentTest.remove();
     }
+    
+    /**
+     * Test created asynchronously by the dispatcher
+     */
+    private static class TestHandle {
+        private final CompletableFuture<ExtentTest> test = new CompletableFuture<>();
+        
+        void create(Supplier<ExtentTest> factory) {
+            try {
+                test.complete(factory.get());
+            } catch (RuntimeException e) {
+                test.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Applies report events on a single consumer thread. Each producer thread
+ * appends to its own lock-free queue, so test threads never contend with
+ * each other and events from one thread are applied in the order they
+ * were recorded. Control tasks (e.g. flush) run once every buffer has been
+ * drained. The consumer parks while there is nothing to apply and is
+ * unparked by the next publish, so an idle dispatcher costs no CPU.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+class ReportEventDispatcher {
+
+    private static final Logger logger = LogManager.getLogger(ReportEventDispatcher.class);
+
+    private final Queue<EventBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<EventBuffer> localBuffer = ThreadLocal.withInitial(this::register);
+    private final Queue<Runnable> controlTasks = new ConcurrentLinkedQueue<>();
+    private final Thread consumer;
+    private volatile boolean idle;
+
+    ReportEventDispatcher() {
+        this.consumer = new Thread(this::consume, "extent-report-dispatcher");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Record an event from the calling thread; returns immediately
+     * @param event Event applied later on the consumer thread
+     */
+    void publish(Runnable event) {
+        localBuffer.get().events.offer(event);
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Run a task on the consumer thread after every event published so far
+     * has been applied, and wait for it
+     * @param task Control task
+     * @param timeoutSeconds Maximum time to wait
+     */
+    void runAfterPending(Runnable task, long timeoutSeconds) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        submit(() -> {
+            try {
+                task.run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Report task did not complete: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queue a task to run on the consumer thread after every event published
+     * so far has been applied, without waiting for it
+     * @param task Control task
+     */
+    void submit(Runnable task) {
+        controlTasks.offer(task);
+        LockSupport.unpark(consumer);
+    }
+
+    private EventBuffer register() {
+        EventBuffer buffer = new EventBuffer(Thread.currentThread());
+        buffers.offer(buffer);
+        return buffer;
+    }
+
+    private void consume() {
+        while (true) {
+            int applied = drainAll();
+            Runnable control = controlTasks.poll();
+            if (control != null) {
+                // Events published before the control task was queued are already in the buffers
+                drainAll();
+                apply(control);
+            } else if (applied == 0) {
+                awaitWork();
+            }
+        }
+    }
+
+    /**
+     * Park until a producer publishes or submits. The idle flag is raised
+     * before the final check for pending work, so a producer that enqueues
+     * after that check sees the flag and unparks the consumer.
+     */
+    private void awaitWork() {
+        idle = true;
+        if (!hasPending()) {
+            LockSupport.park(this);
+        }
+        idle = false;
+    }
+
+    private boolean hasPending() {
+        if (!controlTasks.isEmpty()) {
+            return true;
+        }
+        for (EventBuffer buffer : buffers) {
+            if (!buffer.events.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int drainAll() {
+        int applied = 0;
+        Iterator<EventBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+            EventBuffer buffer = iterator.next();
+            Runnable event;
+            while ((event = buffer.events.poll()) != null) {
+                apply(event);
+                applied++;
+            }
+            if (!buffer.owner.isAlive() && buffer.events.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return applied;
+    }
+
+    private void apply(Runnable event) {
+        try {
+            event.run();
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply report event: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Events recorded by one producer thread
+     */
+    private static class EventBuffer {
+        private final Thread owner;
+        private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+
+        EventBuffer(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.automation.framework.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Merges the result streams written by report shards (report.shard.id)
+ * into one JSON summary and, optionally, one Extent report. Shards are
+ * read in a single k-way pass ordered by test end time, holding one
+ * pending record per shard, so the summary is built in constant memory.
+ * The HTML report is not: ExtentReports renders from memory, so every
+ * replayed test stays in heap until the final flush. Use --summary-only
+ * for suites too large for that.
+ * <p>
+ * Shard files are appended in the order tests finish their teardown
+ * across threads, which is only approximately sorted by end time, so the
+ * merged order is approximate as well. The summary does not depend on it.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ReportMerger {
+
+    private static final Logger logger = LogManager.getLogger(ReportMerger.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Merge shard result files into one HTML report and a summary file
+     * (same path as the report, ending in -summary.json)
+     * @param shardFiles Shard result streams
+     * @param reportPath Merged HTML report path
+     * @return Merge summary
+     */
+    public static MergeSummary merge(List<Path> shardFiles, String reportPath) {
+        return merge(shardFiles, reportPath, true);
+    }
+
+    /**
+     * Merge shard result files into a summary file (same path as the report,
+     * ending in -summary.json) and optionally the HTML report
+     * @param shardFiles Shard result streams
+     * @param reportPath Merged HTML report path
+     * @param writeHtml Whether to write the HTML report, which holds every test in heap
+     * @return Merge summary
+     */
+    public static MergeSummary merge(List<Path> shardFiles, String reportPath, boolean writeHtml) {
+        ExtentReports reports = writeHtml ? ExtentReportManager.newReports(reportPath) : null;
+        MergeSummary summary = new MergeSummary();
+        PriorityQueue<ShardCursor> cursors = new PriorityQueue<>(
+            Comparator.comparingLong((ShardCursor cursor) -> cursor.current.getEndTime()));
+
+        try {
+            for (Path shardFile : shardFiles) {
+                ShardCursor cursor = new ShardCursor(shardFile);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+            while (!cursors.isEmpty()) {
+                ShardCursor cursor = cursors.poll();
+                if (reports != null) {
+                    cursor.current.replay(reports);
+                }
+                summary.add(cursor.shard, cursor.current);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to merge report shards", e);
+        } finally {
+            for (ShardCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+
+        if (reports != null) {
+            reports.flush();
+        }
+        Path summaryFile = Paths.get(reportPath.replaceAll("\\.html$", "") + "-summary.json");
+        try {
+            mapper.writeValue(summaryFile.toFile(), summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write merge summary: " + summaryFile, e);
+        }
+        logger.info("Merged " + summary.getTotal() + " test(s) from " + shardFiles.size() + " shard(s) into "
+            + (reports != null ? reportPath : summaryFile));
+        return summary;
+    }
+
+    /**
+     * Find shard result files in a directory
+     * @param shardDir Directory containing shard .jsonl files
+     * @return Shard files sorted by name
+     */
+    public static List<Path> findShards(Path shardDir) {
+        List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardDir, "*.jsonl")) {
+            stream.forEach(shards::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list report shards in: " + shardDir, e);
+        }
+        shards.sort(Comparator.naturalOrder());
+        return shards;
+    }
+
+    /**
+     * Merge shard results from the command line
+     * @param args Shard directory or files, optional --out=&lt;report.html&gt; and --summary-only
+     */
+    public static void main(String[] args) {
+        String reportPath = "reports/ExtentReport_merged.html";
+        boolean writeHtml = true;
+        List<Path> shards = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--out=")) {
+                reportPath = arg.substring("--out=".length());
+            } else if ("--summary-only".equals(arg)) {
+                writeHtml = false;
+            } else if (Files.isDirectory(Paths.get(arg))) {
+                shards.addAll(findShards(Paths.get(arg)));
+            } else {
+                shards.add(Paths.get(arg));
+            }
+        }
+        if (shards.isEmpty()) {
+            shards.addAll(findShards(Paths.get(ExtentReportManager.SHARD_DIR)));
+        }
+        System.out.println(merge(shards, reportPath, writeHtml));
+    }
+
+    /**
+     * Reads one shard stream a record at a time
+     */
+    private static class ShardCursor implements Closeable {
+        private final String shard;
+        private final BufferedReader reader;
+        private TestRecord current;
+
+        ShardCursor(Path shardFile) throws IOException {
+            this.shard = shardFile.getFileName().toString().replaceAll("\\.jsonl$", "");
+            this.reader = Files.newBufferedReader(shardFile, StandardCharsets.UTF_8);
+        }
+
+        boolean advance() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    current = mapper.readValue(line, TestRecord.class);
+                    return true;
+                }
+            }
+            current = null;
+            return false;
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close shard " + shard + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Totals of a merged run
+     */
+    public static class MergeSummary {
+        private int total;
+        private final Map<String, Integer> byStatus = new TreeMap<>();
+        private final Map<String, Integer> byShard = new TreeMap<>();
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd;
+        private long totalTestMillis;
+
+        void add(String shard, TestRecord record) {
+            total++;
+            byStatus.merge(record.getStatus(), 1, Integer::sum);
+            byShard.merge(shard, 1, Integer::sum);
+            firstStart = Math.min(firstStart, record.getStartTime());
+            lastEnd = Math.max(lastEnd, record.getEndTime());
+            totalTestMillis += record.getEndTime() - record.getStartTime();
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Integer> getByStatus() {
+            return byStatus;
+        }
+
+        public Map<String, Integer> getByShard() {
+            return byShard;
+        }
+
+        /**
+         * Wall-clock span from the first test start to the last test end
+         * @return Duration in milliseconds
+         */
+        public long getWallClockMillis() {
+            return total == 0 ? 0 : lastEnd - firstStart;
+        }
+
+        /**
+         * Sum of all test durations across shards
+         * @return Duration in milliseconds
+         */
+        public long getTotalTestMillis() {
+            return totalTestMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Merged " + total + " test(s): " + byStatus + " by shard " + byShard
+                + ", wall clock " + getWallClockMillis() + " ms, test time " + totalTestMillis + " ms";
+        }
+    }
+}
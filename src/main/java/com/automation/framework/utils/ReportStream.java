@@ -0,0 +1,146 @@
+package com.automation.framework.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming report persistence. Finished tests are appended as JSON lines
+ * to a stream file once a test-count threshold or time interval is reached,
+ * then evicted from the in-memory report so heap usage does not grow with
+ * the suite while it runs. Building the HTML replays the whole stream into
+ * one in-memory report, so it needs heap for every test in the suite; it
+ * is normally done after the run with {@link #main(String[])}.
+ * Not thread-safe; used only from the report dispatcher thread.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ReportStream {
+
+    private static final Logger logger = LogManager.getLogger(ReportStream.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Path streamFile;
+    private final ExtentReports reports;
+    private final int flushThreshold;
+    private final List<ExtentTest> completed = new ArrayList<>();
+    private long persisted;
+
+    /**
+     * Create stream for a report, replacing a stream file left at the same path by an earlier run
+     * @param streamFile JSON lines file finished tests are appended to
+     * @param reports In-memory report finished tests are evicted from
+     * @param flushThreshold Number of finished tests that triggers a flush
+     */
+    public ReportStream(Path streamFile, ExtentReports reports, int flushThreshold) {
+        this.streamFile = streamFile;
+        this.reports = reports;
+        this.flushThreshold = flushThreshold;
+        try {
+            Files.deleteIfExists(streamFile);
+        } catch (IOException e) {
+            logger.warn("Could not remove previous report stream: " + streamFile + " - " + e.getMessage());
+        }
+    }
+
+    public Path getStreamFile() {
+        return streamFile;
+    }
+
+    /**
+     * Register a finished test, flushing if the threshold is reached
+     * @param test Finished test
+     */
+    public void completed(ExtentTest test) {
+        completed.add(test);
+        if (completed.size() >= flushThreshold) {
+            flush();
+        }
+    }
+
+    /**
+     * Append all finished tests to the stream file and evict them from the report
+     */
+    public void flush() {
+        if (completed.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(streamFile.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(streamFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ExtentTest test : completed) {
+                    writer.write(mapper.writeValueAsString(TestRecord.from(test)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            // Keep the tests in memory; the next flush retries
+            logger.error("Failed to persist report stream: " + e.getMessage());
+            return;
+        }
+        for (ExtentTest test : completed) {
+            reports.removeTest(test);
+        }
+        persisted += completed.size();
+        logger.debug("Persisted " + completed.size() + " test(s) to report stream, " + persisted + " in total");
+        completed.clear();
+    }
+
+    /**
+     * Rebuild an HTML report from a stream file, reading one test at a time
+     * @param streamFile JSON lines stream file
+     * @param reports Report the tests are replayed into (flushed by the caller)
+     * @return Number of tests replayed
+     */
+    public static int replay(Path streamFile, ExtentReports reports) {
+        int count = 0;
+        if (!Files.exists(streamFile)) {
+            return count;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(streamFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    mapper.readValue(line, TestRecord.class).replay(reports);
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read report stream: " + streamFile, e);
+        }
+        return count;
+    }
+
+    /**
+     * Build the HTML report from the stream file of a finished or crashed run
+     * @param args Stream file path, optional HTML report path
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReportStream <stream.jsonl> [report.html]");
+            System.exit(2);
+        }
+        Path streamFile = Paths.get(args[0]);
+        String reportPath = args.length > 1 ? args[1] : args[0].replaceAll("\\.jsonl$", "") + ".html";
+        ExtentReports reports = ExtentReportManager.newReports(reportPath);
+        int count = replay(streamFile, reports);
+        reports.flush();
+        logger.info("Rebuilt " + reportPath + " from " + count + " streamed test(s)");
+    }
+}
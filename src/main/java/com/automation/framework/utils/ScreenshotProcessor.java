@@ -0,0 +1,227 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import org.openqa.selenium.Rectangle;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Post-capture screenshot stage: crop, downscale and transcode the PNG
+ * returned by the driver according to screenshot.format, screenshot.quality
+ * and screenshot.max.width. Runs on the screenshot writer threads so the
+ * decode/encode cost never lands on the test thread.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ScreenshotProcessor {
+
+    private static final AtomicLong processed = new AtomicLong();
+    private static final AtomicLong bytesIn = new AtomicLong();
+    private static final AtomicLong bytesOut = new AtomicLong();
+    private static final AtomicLong processNanos = new AtomicLong();
+
+    private final String format;
+    private final String quality;
+    private final int maxWidth;
+    private final Rectangle crop;
+
+    private ScreenshotProcessor(String format, String quality, int maxWidth, Rectangle crop) {
+        this.format = format;
+        this.quality = quality;
+        this.maxWidth = maxWidth;
+        this.crop = crop;
+    }
+
+    /**
+     * Create processor from screenshot.format, screenshot.quality and screenshot.max.width
+     * @return Processor without crop
+     */
+    public static ScreenshotProcessor fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        String format = config.getProperty("screenshot.format", "png").trim().toLowerCase();
+        if ("jpeg".equals(format)) {
+            format = "jpg";
+        }
+        if (!"png".equals(format) && !"jpg".equals(format) && !"gif".equals(format)) {
+            throw new IllegalArgumentException("Unsupported screenshot.format: " + format
+                + " (expected png, jpg or gif)");
+        }
+        String quality = config.getProperty("screenshot.quality", "high").trim().toLowerCase();
+        if (!"high".equals(quality) && !"medium".equals(quality) && !"low".equals(quality)) {
+            throw new IllegalArgumentException("Unsupported screenshot.quality: " + quality
+                + " (expected high, medium or low)");
+        }
+        return new ScreenshotProcessor(format, quality, config.getIntProperty("screenshot.max.width", 0), null);
+    }
+
+    /**
+     * Copy of this processor that crops to a region before scaling
+     * @param region Region in screenshot pixels
+     * @return Cropping processor
+     */
+    public ScreenshotProcessor withCrop(Rectangle region) {
+        return new ScreenshotProcessor(format, quality, maxWidth, region);
+    }
+
+    /**
+     * File extension of the processed image
+     * @return png, jpg or gif
+     */
+    public String getExtension() {
+        return format;
+    }
+
+    /**
+     * Settings that affect the output, used to tell processed variants of the same capture apart
+     * @return Settings signature
+     */
+    public String getSignature() {
+        String signature = format + ":" + quality + ":" + maxWidth;
+        if (crop != null) {
+            signature += ":" + crop.getX() + "," + crop.getY() + "," + crop.getWidth() + "," + crop.getHeight();
+        }
+        return signature;
+    }
+
+    /**
+     * Check if the driver PNG can be written unchanged
+     * @return true if no decoding is needed
+     */
+    public boolean isPassThrough() {
+        return "png".equals(format) && maxWidth <= 0 && crop == null;
+    }
+
+    /**
+     * Crop, downscale and encode a PNG screenshot
+     * @param png PNG bytes from the driver
+     * @return Encoded image in the configured format
+     * @throws IOException if decoding or encoding fails
+     */
+    public byte[] process(byte[] png) throws IOException {
+        if (isPassThrough()) {
+            return png;
+        }
+        long start = System.nanoTime();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        if (crop != null) {
+            image = crop(image, crop);
+        }
+        if (maxWidth > 0 && image.getWidth() > maxWidth) {
+            image = scale(image, maxWidth);
+        }
+        byte[] encoded = encode(image);
+
+        processed.incrementAndGet();
+        bytesIn.addAndGet(png.length);
+        bytesOut.addAndGet(encoded.length);
+        processNanos.addAndGet(System.nanoTime() - start);
+        return encoded;
+    }
+
+    /**
+     * Get processing statistics summary
+     * @return Processed count, size reduction and average processing time
+     */
+    public static String getStatistics() {
+        long count = processed.get();
+        long in = bytesIn.get();
+        long out = bytesOut.get();
+        return "Screenshots processed: " + count
+            + ", bytes in: " + in
+            + ", bytes out: " + out
+            + (in > 0 ? " (" + (out * 100 / in) + "%)" : "")
+            + ", avg process: " + (count > 0 ? processNanos.get() / count / 1_000_000 : 0) + " ms";
+    }
+
+    private static BufferedImage crop(BufferedImage image, Rectangle region) {
+        int x = Math.max(0, Math.min(region.getX(), image.getWidth() - 1));
+        int y = Math.max(0, Math.min(region.getY(), image.getHeight() - 1));
+        int width = Math.max(1, Math.min(region.getWidth(), image.getWidth() - x));
+        int height = Math.max(1, Math.min(region.getHeight(), image.getHeight() - y));
+        return image.getSubimage(x, y, width, height);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if ("jpg".equals(format)) {
+            writeJpeg(toRgb(image), output);
+        } else if (!ImageIO.write("gif".equals(format) ? toRgb(image) : image, format, output)) {
+            throw new IOException("No image writer for format: " + format);
+        }
+        return output.toByteArray();
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream output) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: jpg");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality());
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private float jpegQuality() {
+        switch (quality) {
+            case "low":
+                return 0.5f;
+            case "medium":
+                return 0.75f;
+            default:
+                return 0.9f;
+        }
+    }
+
+    /**
+     * Drop the alpha channel; JPEG and GIF writers expect opaque RGB
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+}
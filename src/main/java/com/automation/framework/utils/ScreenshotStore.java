@@ -0,0 +1,169 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed screenshot store. Image bytes are hashed and written
+ * once as blobs/&lt;sha256&gt;.&lt;ext&gt;; every capture only appends a
+ * test-name/timestamp entry to index.csv pointing at its blob, so visually
+ * identical screenshots cost one file regardless of how often they are taken.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ScreenshotStore {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final String STORE_DIR = "reports/screenshots/";
+    private static final String BLOB_DIR = STORE_DIR + "blobs/";
+    private static final String INDEX_FILE = STORE_DIR + "index.csv";
+    private static volatile ScreenshotStore instance;
+
+    private final Map<String, CompletableFuture<String>> blobs = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    private ScreenshotStore() {
+    }
+
+    /**
+     * Get singleton instance of ScreenshotStore
+     * @return ScreenshotStore instance
+     */
+    public static ScreenshotStore getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotStore.class) {
+                if (instance == null) {
+                    instance = new ScreenshotStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Store screenshot bytes, writing the blob only if its content is new.
+     * The hash covers the captured bytes and the processing settings, so
+     * identical captures are deduplicated before any processing is done.
+     * @param bytes PNG bytes from the driver
+     * @param processor Processing stage applied before the blob is written
+     * @param name Screenshot name recorded in the index
+     * @return Blob path (written asynchronously)
+     */
+    public String store(byte[] bytes, ScreenshotProcessor processor, String name) {
+        String hash = sha256(bytes, processor.isPassThrough() ? "" : processor.getSignature());
+        String blobPath = BLOB_DIR + hash + "." + processor.getExtension();
+
+        CompletableFuture<String> blob = blobs.get(blobPath);
+        if (blob == null && isComplete(Paths.get(blobPath))) {
+            // Blob written by an earlier run; blobs are renamed into place only once fully written
+            blob = CompletableFuture.completedFuture(blobPath);
+            blobs.putIfAbsent(blobPath, blob);
+        }
+
+        if (blob != null || blobs.putIfAbsent(blobPath, new CompletableFuture<>()) != null) {
+            deduplicated.incrementAndGet();
+            bytesSaved.addAndGet(bytes.length);
+            logger.debug("Screenshot '" + name + "' deduplicated to " + blobPath);
+        } else {
+            Path target = Paths.get(blobPath);
+            ScreenshotWriter.getInstance().submit(bytes, target, processor).whenComplete((path, error) -> {
+                if (error != null) {
+                    // Allow a later capture with the same content to retry the write
+                    blobs.remove(blobPath).completeExceptionally(error);
+                } else {
+                    blobs.get(blobPath).complete(path);
+                }
+            });
+            stored.incrementAndGet();
+        }
+
+        appendIndexEntry(name, hash, blobPath);
+        return blobPath;
+    }
+
+    private static boolean isComplete(Path blob) {
+        try {
+            return Files.size(blob) > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get future for a blob write
+     * @param blobPath Blob path returned by store
+     * @return Future completing when the blob is on disk
+     */
+    public CompletableFuture<String> getBlob(String blobPath) {
+        CompletableFuture<String> blob = blobs.get(blobPath);
+        return blob != null ? blob : CompletableFuture.completedFuture(blobPath);
+    }
+
+    /**
+     * Get deduplication statistics summary
+     * @return Stored/deduplicated counts and bytes not written
+     */
+    public String getStatistics() {
+        return "Screenshot blobs stored: " + stored.get()
+            + ", deduplicated: " + deduplicated.get()
+            + ", bytes saved: " + bytesSaved.get();
+    }
+
+    /**
+     * Append an index entry on the writer threads
+     * @param name Screenshot name
+     * @param hash Content hash
+     * @param blobPath Blob path
+     */
+    private void appendIndexEntry(String name, String hash, String blobPath) {
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS").format(new Date());
+        String line = timestamp + "," + name.replace(",", "_") + "," + hash + "," + blobPath + System.lineSeparator();
+        ScreenshotWriter.getInstance().submit(INDEX_FILE + "#" + hash + "#" + System.nanoTime(), () -> {
+            synchronized (indexLock) {
+                Path index = Paths.get(INDEX_FILE);
+                Files.createDirectories(index.toAbsolutePath().getParent());
+                if (!Files.exists(index)) {
+                    Files.write(index, ("timestamp,name,sha256,blob" + System.lineSeparator())
+                        .getBytes(StandardCharsets.UTF_8));
+                }
+                Files.write(index, line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            return INDEX_FILE;
+        });
+    }
+
+    private static String sha256(byte[] bytes, String salt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes);
+            digest.update(salt.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.automation.framework.utils;
 
+import com.automation.framework.config.ConfigManager;
 import com.automation.framework.driver.DriverFactory;
-import org.apache.commons.io.FileUtils;
+import com.automation.framework.visual.VisualComparator;
+import com.automation.framework.visual.VisualDiffResult;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.ChromiumDriver;
 
-import java.io.File;
-import java.io.IOException;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Screenshot utility for capturing and managing screenshots
+ * Screenshot utility for capturing and managing screenshots.
+ * Capture happens on the calling thread; disk I/O is handed to the
+ * background ScreenshotWriter so the test can proceed immediately.
  * 
  * @author Automation Framework
  * @version 1.0
@@ -23,13 +36,45 @@ public class ScreenshotUtils {
     
     private static final Logger logger = LogManager.getLogger(ScreenshotUtils.class);
     private static final String SCREENSHOT_DIR = "reports/screenshots/";
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
     
     /**
-     * Take screenshot and save to reports directory
+     * Take screenshot and queue it for saving to the reports directory
      * @param testName Test name for screenshot filename
-     * @return Screenshot file path
+     * @return Screenshot file path (written asynchronously, see {@link #awaitPersisted(String)})
      */
     public static String takeScreenshot(String testName) {
+        QueuedScreenshot screenshot = capture(testName);
+        return screenshot != null ? screenshot.path : null;
+    }
+    
+    /**
+     * Take screenshot and queue it for saving to the reports directory
+     * @param testName Test name for screenshot filename
+     * @return Future completing with the file path once written, or null if capture failed
+     */
+    public static CompletableFuture<String> takeScreenshotAsync(String testName) {
+        QueuedScreenshot screenshot = capture(testName);
+        return screenshot != null ? screenshot.future : null;
+    }
+    
+    /**
+     * Capture screenshot bytes on the calling thread and queue them for writing
+     * @param testName Test name for screenshot filename
+     * @return Queued screenshot, or null if capture failed
+     */
+    private static QueuedScreenshot capture(String testName) {
+        return capture(testName, ScreenshotProcessor.fromConfig());
+    }
+    
+    /**
+     * Capture screenshot bytes on the calling thread and queue them for
+     * processing and writing
+     * @param testName Test name for screenshot filename
+     * @param processor Processing stage run on the writer thread
+     * @return Queued screenshot, or null if capture failed
+     */
+    private static QueuedScreenshot capture(String testName, ScreenshotProcessor processor) {
         WebDriver driver = DriverFactory.getDriver();
         if (driver == null) {
             logger.warn("WebDriver is not initialized, cannot take screenshot");
@@ -37,33 +82,139 @@ public class ScreenshotUtils {
         }
         
         try {
-            // Create screenshots directory if it doesn't exist
-            File screenshotDir = new File(SCREENSHOT_DIR);
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
-            }
-            
-            // Generate filename with timestamp
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String fileName = testName.replaceAll("[^a-zA-Z0-9]", "_") + "_" + timestamp + ".png";
-            String filePath = SCREENSHOT_DIR + fileName;
-            
             // Take screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
-            
-            FileUtils.copyFile(sourceFile, destFile);
-            logger.info("Screenshot saved: " + filePath);
-            
-            return filePath;
-            
-        } catch (IOException e) {
+            byte[] bytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return queue(testName, bytes, processor);
+        } catch (Exception e) {
             logger.error("Failed to take screenshot: " + e.getMessage(), e);
             return null;
         }
     }
     
+    /**
+     * Queue captured bytes for processing and writing
+     * @param testName Test name for screenshot filename
+     * @param bytes PNG bytes from the driver
+     * @param processor Processing stage run on the writer thread
+     * @return Queued screenshot
+     */
+    private static QueuedScreenshot queue(String testName, byte[] bytes, ScreenshotProcessor processor) {
+        String baseName = testName.replaceAll("[^a-zA-Z0-9]", "_");
+        
+        if (isDeduplicationEnabled()) {
+            ScreenshotStore store = ScreenshotStore.getInstance();
+            String blobPath = store.store(bytes, processor, baseName);
+            logger.info("Screenshot queued: " + blobPath);
+            return new QueuedScreenshot(blobPath, store.getBlob(blobPath));
+        }
+        
+        // Generate filename with timestamp
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+        String filePath = SCREENSHOT_DIR + baseName + "_" + timestamp + "." + processor.getExtension();
+        CompletableFuture<String> future = ScreenshotWriter.getInstance()
+            .submit(bytes, Paths.get(filePath), processor);
+        logger.info("Screenshot queued: " + filePath);
+        
+        return new QueuedScreenshot(filePath, future);
+    }
+    
+    /**
+     * Take screenshot of a single element. Only the element's pixels are
+     * captured and encoded by the driver, which is cheaper than a viewport shot.
+     * @param testName Test name for screenshot filename
+     * @param element Element to capture
+     * @return Screenshot file path (written asynchronously), or null if capture failed
+     */
+    public static String takeElementScreenshot(String testName, WebElement element) {
+        try {
+            byte[] bytes = element.getScreenshotAs(OutputType.BYTES);
+            return queue(testName, bytes, ScreenshotProcessor.fromConfig()).path;
+        } catch (Exception e) {
+            logger.error("Failed to take element screenshot: " + e.getMessage(), e);
+            return null;
+        }
+    }
+    
+    /**
+     * Take screenshot of a page region. Chromium browsers capture only the
+     * clip through CDP; other browsers capture the viewport and the region
+     * is cropped on the writer thread.
+     * @param testName Test name for screenshot filename
+     * @param region Region in CSS pixels relative to the document
+     * @return Screenshot file path (written asynchronously), or null if capture failed
+     */
+    public static String takeRegionScreenshot(String testName, Rectangle region) {
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null) {
+            logger.warn("WebDriver is not initialized, cannot take screenshot");
+            return null;
+        }
+        
+        try {
+            if (driver instanceof ChromiumDriver) {
+                Map<String, Object> clip = new HashMap<>();
+                clip.put("x", region.getX());
+                clip.put("y", region.getY());
+                clip.put("width", region.getWidth());
+                clip.put("height", region.getHeight());
+                clip.put("scale", 1);
+                Map<String, Object> params = new HashMap<>();
+                params.put("format", "png");
+                params.put("clip", clip);
+                params.put("captureBeyondViewport", true);
+                Map<String, Object> result = ((ChromiumDriver) driver).executeCdpCommand("Page.captureScreenshot", params);
+                byte[] bytes = Base64.getDecoder().decode((String) result.get("data"));
+                return queue(testName, bytes, ScreenshotProcessor.fromConfig()).path;
+            }
+            QueuedScreenshot screenshot = capture(testName,
+                ScreenshotProcessor.fromConfig().withCrop(toViewportPixels(driver, region)));
+            return screenshot != null ? screenshot.path : null;
+        } catch (Exception e) {
+            logger.error("Failed to take region screenshot: " + e.getMessage(), e);
+            return null;
+        }
+    }
+    
+    /**
+     * Convert a document region to screenshot pixels of the current viewport
+     * @param driver WebDriver instance
+     * @param region Region in CSS pixels relative to the document
+     * @return Region in screenshot pixels
+     */
+    private static Rectangle toViewportPixels(WebDriver driver, Rectangle region) {
+        @SuppressWarnings("unchecked")
+        List<Number> viewport = (List<Number>) ((JavascriptExecutor) driver).executeScript(
+            "return [window.scrollX, window.scrollY, window.devicePixelRatio || 1];");
+        double ratio = viewport.get(2).doubleValue();
+        return new Rectangle(
+            (int) Math.round((region.getX() - viewport.get(0).doubleValue()) * ratio),
+            (int) Math.round((region.getY() - viewport.get(1).doubleValue()) * ratio),
+            (int) Math.round(region.getHeight() * ratio),
+            (int) Math.round(region.getWidth() * ratio));
+    }
+    
+    /**
+     * Compare the current viewport with its stored baseline. On mismatch the
+     * diff image is attached to the Extent report.
+     * @param name Baseline name
+     * @param ignoreRegions Regions (in screenshot pixels) excluded from the comparison
+     * @return Comparison result, or null if the screenshot could not be taken
+     */
+    public static VisualDiffResult compareWithBaseline(String name, Rectangle... ignoreRegions) {
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null) {
+            logger.warn("WebDriver is not initialized, cannot take screenshot");
+            return null;
+        }
+        
+        byte[] bytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        VisualDiffResult result = VisualComparator.getInstance().compare(name, bytes, Arrays.asList(ignoreRegions));
+        if (result.getDiffImagePath() != null) {
+            ExtentReportManager.addScreenshot(result.getDiffImagePath(), "Visual diff: " + name);
+        }
+        return result;
+    }
+    
     /**
      * Take screenshot for failed test
      * @param testName Test name
@@ -82,4 +233,46 @@ public class ScreenshotUtils {
     public static String takeScreenshotWithName(String customName) {
         return takeScreenshot(customName);
     }
+    
+    /**
+     * Wait until a screenshot returned by takeScreenshot is on disk
+     * @param screenshotPath Screenshot file path
+     * @return true if the file was written
+     */
+    public static boolean awaitPersisted(String screenshotPath) {
+        return ScreenshotWriter.getInstance().awaitPersisted(screenshotPath, FLUSH_TIMEOUT_SECONDS);
+    }
+    
+    /**
+     * Wait for all queued screenshots to be written, e.g. before the report is flushed
+     */
+    public static void flush() {
+        ScreenshotWriter.getInstance().flush(FLUSH_TIMEOUT_SECONDS);
+        logger.info(ScreenshotProcessor.getStatistics());
+        logger.info(VisualComparator.getInstance().getStatistics());
+        if (isDeduplicationEnabled()) {
+            logger.info(ScreenshotStore.getInstance().getStatistics());
+        }
+    }
+    
+    /**
+     * Check if screenshots go to the content-addressed store
+     * @return true if deduplication is enabled
+     */
+    private static boolean isDeduplicationEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("screenshot.dedup.enabled", true);
+    }
+    
+    /**
+     * Screenshot path together with the future of its background write
+     */
+    private static class QueuedScreenshot {
+        private final String path;
+        private final CompletableFuture<String> future;
+        
+        QueuedScreenshot(String path, CompletableFuture<String> future) {
+            this.path = path;
+            this.future = future;
+        }
+    }
 }
\ No newline at end of file
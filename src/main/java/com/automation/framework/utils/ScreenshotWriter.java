@@ -0,0 +1,271 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer that persists captured screenshots off the test thread.
+ * The queue is bounded; when it is full the configured back-pressure policy
+ * decides whether the test thread blocks, writes the file itself or drops it.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ScreenshotWriter {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+    private static volatile ScreenshotWriter instance;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong written = new AtomicLong();
+    // Non-screenshot actions (e.g. index appends) are counted apart so "written" stays a screenshot count
+    private final AtomicLong otherWrites = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private ScreenshotWriter() {
+        ConfigManager config = ConfigManager.getInstance();
+        int threads = config.getIntProperty("screenshot.writer.threads", 2);
+        int capacity = config.getIntProperty("screenshot.queue.capacity", 50);
+        String policy = config.getProperty("screenshot.queue.policy", "block");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(capacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            rejectionHandler(policy));
+        this.executor.allowCoreThreadTimeOut(true);
+        logger.info("Screenshot writer started with " + threads + " thread(s), queue capacity " + capacity
+            + ", policy '" + policy + "'");
+    }
+
+    /**
+     * Get singleton instance of ScreenshotWriter
+     * @return ScreenshotWriter instance
+     */
+    public static ScreenshotWriter getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotWriter.class) {
+                if (instance == null) {
+                    instance = new ScreenshotWriter();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Queue screenshot bytes to be written to a file
+     * @param bytes Encoded image bytes
+     * @param target Destination file
+     * @return Future completing with the file path once persisted
+     */
+    public CompletableFuture<String> submit(byte[] bytes, Path target) {
+        return submit(target.toString(), () -> writeAtomically(target, bytes), written);
+    }
+
+    /**
+     * Queue screenshot bytes to be processed (cropped, scaled, transcoded)
+     * and written to a file; processing runs on the writer thread
+     * @param bytes PNG bytes from the driver
+     * @param target Destination file
+     * @param processor Processing stage
+     * @return Future completing with the file path once persisted
+     */
+    public CompletableFuture<String> submit(byte[] bytes, Path target, ScreenshotProcessor processor) {
+        return submit(target.toString(), () -> writeAtomically(target, processor.process(bytes)), written);
+    }
+    
+    /**
+     * Write a file through a temp file in the same directory that is then
+     * renamed into place, so a crash never leaves a truncated file at the
+     * target path for a later run to pick up
+     * @param target Destination file
+     * @param bytes File content
+     * @return Target path
+     */
+    static String writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path directory = Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(directory, target.getFileName() + ".", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target.toString();
+    }
+
+    /**
+     * Queue an arbitrary I/O action on the writer threads, subject to the
+     * same back-pressure policy and flush as screenshot writes
+     * @param key Key used by awaitPersisted, usually the target path
+     * @param action Action returning the persisted path
+     * @return Future completing with the action result
+     */
+    public CompletableFuture<String> submit(String key, IoAction action) {
+        return submit(key, action, otherWrites);
+    }
+    
+    /**
+     * Queue an I/O action, counting it in the given counter once it succeeds
+     */
+    private CompletableFuture<String> submit(String key, IoAction action, AtomicLong completed) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        pending.put(key, future);
+        future.whenComplete((result, error) -> pending.remove(key, future));
+
+        try {
+            executor.execute(new WriteTask(key, action, future, completed));
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            logger.warn("Screenshot queue full, dropped: " + key);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Wait until a queued screenshot has been written
+     * @param path File path returned when the screenshot was taken
+     * @param timeoutSeconds Maximum time to wait
+     * @return true if the file is on disk
+     */
+    public boolean awaitPersisted(String path, long timeoutSeconds) {
+        CompletableFuture<String> future = pending.get(path);
+        if (future == null) {
+            return Files.exists(Path.of(path));
+        }
+        try {
+            future.get(timeoutSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            logger.error("Screenshot was not persisted: " + path + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Wait for every queued screenshot to be written
+     * @param timeoutSeconds Maximum time to wait
+     */
+    public void flush(long timeoutSeconds) {
+        List<CompletableFuture<String>> outstanding = new ArrayList<>(pending.values());
+        if (outstanding.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(outstanding.toArray(new CompletableFuture[0]))
+                .get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            logger.warn("Timed out flushing " + pending.size() + " screenshot(s)");
+        } catch (Exception e) {
+            logger.debug("Some screenshots failed to persist: " + e.getMessage());
+        }
+        logger.info("Screenshot writer flushed. Written: " + written.get() + ", other writes: " + otherWrites.get()
+            + ", dropped: " + dropped.get());
+    }
+
+    /**
+     * Build the back-pressure policy applied when the queue is full
+     * @param policy block, caller-runs or drop
+     * @return Rejection handler
+     */
+    private static RejectedExecutionHandler rejectionHandler(String policy) {
+        switch (policy.trim().toLowerCase()) {
+            case "caller-runs":
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case "drop":
+                return new ThreadPoolExecutor.AbortPolicy();
+            case "block":
+                return (runnable, executor) -> {
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while queueing screenshot", e);
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unsupported screenshot.queue.policy: " + policy
+                    + " (expected block, caller-runs or drop)");
+        }
+    }
+
+    /**
+     * I/O work performed on a writer thread
+     */
+    @FunctionalInterface
+    public interface IoAction {
+        /**
+         * Perform the I/O
+         * @return Persisted path
+         * @throws IOException if writing fails
+         */
+        String run() throws IOException;
+    }
+
+    /**
+     * Runs one I/O action and completes its future
+     */
+    private class WriteTask implements Runnable {
+        private final String key;
+        private final IoAction action;
+        private final CompletableFuture<String> future;
+        private final AtomicLong completed;
+
+        WriteTask(String key, IoAction action, CompletableFuture<String> future, AtomicLong completed) {
+            this.key = key;
+            this.action = action;
+            this.future = future;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String result = action.run();
+                completed.incrementAndGet();
+                logger.debug("Written: " + key);
+                future.complete(result);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to write screenshot: " + key, e);
+                future.completeExceptionally(e instanceof IOException ? new UncheckedIOException((IOException) e) : e);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of parsed test data sheets (Excel sheets or CSV
+ * files), keyed by file and sheet and validated against the file's
+ * modification time and size on every lookup, so an edited file is parsed
+ * again. Loading is single-flight: threads asking for a sheet that is
+ * being parsed wait for that parse instead of starting their own. Sheets
+ * are cached as TestDataTable, so the indexes built for lookups are shared
+ * and dropped together with the file version they were built from.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class TestDataCache {
+
+    private static final Logger logger = LogManager.getLogger(TestDataCache.class);
+    private static volatile TestDataCache instance;
+
+    private final Map<String, CachedSheet> sheets = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+
+    private TestDataCache() {
+    }
+
+    /**
+     * Get singleton instance of TestDataCache
+     * @return TestDataCache instance
+     */
+    public static TestDataCache getInstance() {
+        if (instance == null) {
+            synchronized (TestDataCache.class) {
+                if (instance == null) {
+                    instance = new TestDataCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the parsed rows of a sheet
+     * @param filePath Path to Excel or CSV file
+     * @param sheetName Name of the sheet (ignored for CSV files)
+     * @return Unmodifiable rows, empty if the file does not exist
+     * @throws java.io.UncheckedIOException if the file cannot be parsed; nothing is cached then
+     */
+    public List<Map<String, String>> getSheet(String filePath, String sheetName) {
+        return getTable(filePath, sheetName).getRows();
+    }
+
+    /**
+     * Get a sheet as an indexed table, parsing it only if it is not cached
+     * or the file changed since it was parsed
+     * @param filePath Path to Excel or CSV file
+     * @param sheetName Name of the sheet (ignored for CSV files)
+     * @return Table, empty if the file does not exist
+     * @throws java.io.UncheckedIOException if the file cannot be parsed; nothing is cached then
+     */
+    public TestDataTable getTable(String filePath, String sheetName) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        FileStamp stamp;
+        try {
+            stamp = FileStamp.of(path);
+        } catch (IOException e) {
+            logger.error("Test data file not readable: " + filePath + " - " + e.getMessage());
+            return new TestDataTable(Collections.emptyList());
+        }
+
+        String key = path + "#" + sheetName;
+        CachedSheet created = new CachedSheet(stamp);
+        CachedSheet entry = sheets.compute(key, (k, existing) -> {
+            if (existing != null && existing.stamp.equals(stamp)) {
+                return existing;
+            }
+            if (existing != null) {
+                invalidations.incrementAndGet();
+            }
+            return created;
+        });
+
+        if (entry == created) {
+            misses.incrementAndGet();
+            load(key, entry, filePath, sheetName);
+        } else if (entry.table.isDone()) {
+            hits.incrementAndGet();
+        } else {
+            waits.incrementAndGet();
+        }
+
+        try {
+            return entry.table.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Parse a sheet on the calling thread and publish the rows to waiting threads
+     */
+    private void load(String key, CachedSheet entry, String filePath, String sheetName) {
+        long start = System.nanoTime();
+        try {
+            List<Map<String, String>> rows;
+            if (ConfigManager.getInstance().getBooleanProperty("test.data.compact.rows", true)) {
+                rows = ExcelDataProvider.readCompactTestData(filePath, sheetName);
+            } else {
+                List<Map<String, String>> parsed = ExcelDataProvider.isCsvFile(filePath)
+                    ? ExcelDataProvider.loadCsvData(filePath)
+                    : ExcelDataProvider.loadTestData(filePath, sheetName);
+                rows = new ArrayList<>();
+                for (Map<String, String> row : parsed) {
+                    rows.add(Collections.unmodifiableMap(row));
+                }
+            }
+            entry.table.complete(new TestDataTable(rows));
+        } catch (RuntimeException e) {
+            // Do not cache the failure; the next lookup parses again
+            sheets.remove(key, entry);
+            entry.table.completeExceptionally(e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            loadNanos.addAndGet(elapsed);
+            maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * Drop all cached sheets
+     */
+    public void clear() {
+        sheets.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Get number of lookups that waited for a parse started by another thread
+     * @return Single-flight wait count
+     */
+    public long getWaits() {
+        return waits.get();
+    }
+
+    /**
+     * Get number of cached sheets replaced because their file changed
+     * @return Invalidation count
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * Get total time spent parsing sheets
+     * @return Load time in milliseconds
+     */
+    public long getLoadTimeMillis() {
+        return loadNanos.get() / 1_000_000;
+    }
+
+    /**
+     * Get cache statistics
+     * @return Statistics summary
+     */
+    public String getStatistics() {
+        return "Test data cache hits: " + hits.get()
+            + ", misses: " + misses.get()
+            + ", single-flight waits: " + waits.get()
+            + ", invalidations: " + invalidations.get()
+            + ", load time: " + getLoadTimeMillis() + " ms (max " + maxLoadNanos.get() / 1_000_000 + " ms)";
+    }
+
+    /**
+     * Rows of one sheet, parsed from the file version identified by the stamp
+     */
+    private static class CachedSheet {
+        private final FileStamp stamp;
+        private final CompletableFuture<TestDataTable> table = new CompletableFuture<>();
+
+        CachedSheet(FileStamp stamp) {
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * File modification time and size
+     */
+    private static class FileStamp {
+        private final long modifiedMillis;
+        private final long size;
+
+        private FileStamp(long modifiedMillis, long size) {
+            this.modifiedMillis = modifiedMillis;
+            this.size = size;
+        }
+
+        static FileStamp of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof FileStamp)) {
+                return false;
+            }
+            FileStamp that = (FileStamp) other;
+            return modifiedMillis == that.modifiedMillis && size == that.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(modifiedMillis) * 31 + Long.hashCode(size);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.automation.framework.utils;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only table of test data rows with indexed lookups. A hash index is
+ * built the first time a column, or combination of columns, is queried
+ * and reused by every later query, so key lookups cost one map access
+ * instead of a scan. Hash index buckets hold row positions as plain ints,
+ * which also keeps multi-value results in file order without a separate
+ * row-to-position map. Range queries use a sorted index ordered numerically
+ * when every value of the column is a number, otherwise alphabetically.
+ * Safe to share between threads.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class TestDataTable {
+
+    private final List<Map<String, String>> rows;
+    private final Map<List<String>, Map<List<String>, int[]>> hashIndexes = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Comparable<?>, List<Map<String, String>>>> sortedIndexes =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Create table over rows
+     * @param rows Rows; copied into an unmodifiable list
+     */
+    public TestDataTable(List<Map<String, String>> rows) {
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    /**
+     * Get all rows in file order
+     * @return Unmodifiable rows
+     */
+    public List<Map<String, String>> getRows() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Find the first row with a column value
+     * @param column Key column
+     * @param value Value to match
+     * @return Row, or null if none matches
+     */
+    public Map<String, String> findFirst(String column, String value) {
+        List<Map<String, String>> matches = where(column, value);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Find rows with a column value
+     * @param column Key column
+     * @param value Value to match
+     * @return Matching rows in file order
+     */
+    public List<Map<String, String>> where(String column, String value) {
+        return lookup(Collections.singletonList(column), Collections.singletonList(value));
+    }
+
+    /**
+     * Find rows matching several column values at once, using a composite index
+     * @param criteria Column to value
+     * @return Matching rows in file order
+     */
+    public List<Map<String, String>> where(Map<String, String> criteria) {
+        Map<String, String> sorted = new TreeMap<>(criteria);
+        return lookup(new ArrayList<>(sorted.keySet()), new ArrayList<>(sorted.values()));
+    }
+
+    /**
+     * Find rows whose column value is one of several values
+     * @param column Key column
+     * @param values Values to match
+     * @return Matching rows in file order
+     */
+    public List<Map<String, String>> whereIn(String column, Collection<String> values) {
+        Map<List<String>, int[]> index = hashIndex(Collections.singletonList(column));
+        List<int[]> buckets = new ArrayList<>();
+        int total = 0;
+        for (String value : new LinkedHashSet<>(values)) {
+            int[] bucket = index.get(Collections.singletonList(value));
+            if (bucket != null) {
+                buckets.add(bucket);
+                total += bucket.length;
+            }
+        }
+        int[] positions = new int[total];
+        int offset = 0;
+        for (int[] bucket : buckets) {
+            System.arraycopy(bucket, 0, positions, offset, bucket.length);
+            offset += bucket.length;
+        }
+        // Distinct values never share a row, so sorting the positions restores file order
+        Arrays.sort(positions);
+        return new ArrayList<>(new RowView(positions));
+    }
+
+    /**
+     * Find rows whose column value lies in a range, bounds inclusive
+     * @param column Column to compare
+     * @param from Lower bound, or null for no lower bound
+     * @param to Upper bound, or null for no upper bound
+     * @return Matching rows ordered by column value
+     */
+    public List<Map<String, String>> between(String column, String from, String to) {
+        NavigableMap<Comparable<?>, List<Map<String, String>>> index = sortedIndex(column);
+        boolean numeric = !index.isEmpty() && index.firstKey() instanceof BigDecimal;
+        NavigableMap<Comparable<?>, List<Map<String, String>>> range = index;
+        if (from != null) {
+            range = range.tailMap(sortKey(from, numeric), true);
+        }
+        if (to != null) {
+            range = range.headMap(sortKey(to, numeric), true);
+        }
+        List<Map<String, String>> matches = new ArrayList<>();
+        range.values().forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Find rows matching a condition (scans all rows)
+     * @param condition Row condition
+     * @return Matching rows in file order
+     */
+    public List<Map<String, String>> filter(Predicate<Map<String, String>> condition) {
+        return rows.stream().filter(condition).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the distinct values of a column
+     * @param column Column
+     * @return Distinct values in first-seen order
+     */
+    public List<String> distinct(String column) {
+        return rows.stream().map(row -> row.get(column)).distinct().collect(Collectors.toList());
+    }
+
+    private List<Map<String, String>> lookup(List<String> columns, List<String> values) {
+        int[] positions = hashIndex(columns).get(values);
+        return positions != null ? new RowView(positions) : Collections.emptyList();
+    }
+
+    /**
+     * Get or build the hash index over a list of columns; each bucket holds
+     * the positions of its rows in ascending order
+     */
+    private Map<List<String>, int[]> hashIndex(List<String> columns) {
+        return hashIndexes.computeIfAbsent(columns, key -> {
+            Map<List<String>, PositionBuffer> buckets = new HashMap<>();
+            for (int position = 0; position < rows.size(); position++) {
+                Map<String, String> row = rows.get(position);
+                String[] values = new String[key.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = row.get(key.get(i));
+                }
+                buckets.computeIfAbsent(Arrays.asList(values), k -> new PositionBuffer()).add(position);
+            }
+            Map<List<String>, int[]> index = new HashMap<>(buckets.size() * 4 / 3 + 1);
+            buckets.forEach((values, positions) -> index.put(values, positions.toArray()));
+            return Collections.unmodifiableMap(index);
+        });
+    }
+
+    /**
+     * Get or build the sorted index of a column; rows without a value are left out
+     */
+    private NavigableMap<Comparable<?>, List<Map<String, String>>> sortedIndex(String column) {
+        return sortedIndexes.computeIfAbsent(column, key -> {
+            boolean numeric = true;
+            for (Map<String, String> row : rows) {
+                String value = row.get(column);
+                if (value != null && !value.isEmpty() && !isNumber(value)) {
+                    numeric = false;
+                    break;
+                }
+            }
+            NavigableMap<Comparable<?>, List<Map<String, String>>> index = new TreeMap<>();
+            for (Map<String, String> row : rows) {
+                String value = row.get(column);
+                if (value != null && !value.isEmpty()) {
+                    index.computeIfAbsent(sortKey(value, numeric), k -> new ArrayList<>()).add(row);
+                }
+            }
+            return Collections.unmodifiableNavigableMap(index);
+        });
+    }
+
+    private static Comparable<?> sortKey(String value, boolean numeric) {
+        if (!numeric) {
+            return value;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Numeric column compared with non-numeric bound: " + value);
+        }
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new BigDecimal(value.trim());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read-only list of the rows at given positions
+     */
+    private final class RowView extends AbstractList<Map<String, String>> {
+        private final int[] positions;
+
+        RowView(int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public Map<String, String> get(int index) {
+            return rows.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+
+    /**
+     * Growable int array used while a hash index is built
+     */
+    private static final class PositionBuffer {
+        private int[] positions = new int[1];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return size == positions.length ? positions : Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.automation.framework.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Category;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Serializable snapshot of a finished report test: steps, timings and
+ * screenshot references. Written one per line to the report stream and
+ * replayed into an ExtentReports instance to rebuild the HTML report.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class TestRecord {
+
+    private String name;
+    private String description;
+    private List<String> categories = new ArrayList<>();
+    private String status;
+    private long startTime;
+    private long endTime;
+    private List<StepRecord> steps = new ArrayList<>();
+    private List<ScreenshotRecord> screenshots = new ArrayList<>();
+
+    /**
+     * Capture a finished test from the report model
+     * @param test Report test
+     * @return Test record
+     */
+    public static TestRecord from(ExtentTest test) {
+        Test model = test.getModel();
+        TestRecord record = new TestRecord();
+        record.name = model.getName();
+        record.description = model.getDescription();
+        for (Category category : model.getCategorySet()) {
+            record.categories.add(category.getName());
+        }
+        record.status = model.getStatus().name();
+        record.startTime = model.getStartTime().getTime();
+        record.endTime = model.getEndTime().getTime();
+        for (Log log : model.getLogs()) {
+            record.steps.add(new StepRecord(log.getTimestamp().getTime(), log.getStatus().name(), log.getDetails()));
+        }
+        for (Media media : model.getMedia()) {
+            record.screenshots.add(new ScreenshotRecord(media.getPath(), media.getTitle()));
+        }
+        return record;
+    }
+
+    /**
+     * Recreate this test, with its original timings, in a report
+     * @param reports Target report
+     * @return Created report test
+     */
+    public ExtentTest replay(ExtentReports reports) {
+        ExtentTest test = reports.createTest(name, description);
+        if (!categories.isEmpty()) {
+            test.assignCategory(categories.toArray(new String[0]));
+        }
+        for (StepRecord step : steps) {
+            test.log(Status.valueOf(step.getStatus()), step.getDetails());
+            List<Log> logs = test.getModel().getLogs();
+            logs.get(logs.size() - 1).setTimestamp(new Date(step.getTimestamp()));
+        }
+        for (ScreenshotRecord screenshot : screenshots) {
+            test.addScreenCaptureFromPath(screenshot.getPath(), screenshot.getTitle());
+        }
+        test.getModel().setStartTime(new Date(startTime));
+        test.getModel().setEndTime(new Date(endTime));
+        return test;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<String> categories) {
+        this.categories = categories;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(long endTime) {
+        this.endTime = endTime;
+    }
+
+    public List<StepRecord> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<StepRecord> steps) {
+        this.steps = steps;
+    }
+
+    public List<ScreenshotRecord> getScreenshots() {
+        return screenshots;
+    }
+
+    public void setScreenshots(List<ScreenshotRecord> screenshots) {
+        this.screenshots = screenshots;
+    }
+
+    /**
+     * One logged step
+     */
+    public static class StepRecord {
+        private long timestamp;
+        private String status;
+        private String details;
+
+        public StepRecord() {
+        }
+
+        StepRecord(long timestamp, String status, String details) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.details = details;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getDetails() {
+            return details;
+        }
+
+        public void setDetails(String details) {
+            this.details = details;
+        }
+    }
+
+    /**
+     * Screenshot attached to the test, referenced by path
+     */
+    public static class ScreenshotRecord {
+        private String path;
+        private String title;
+
+        public ScreenshotRecord() {
+        }
+
+        ScreenshotRecord(String path, String title) {
+            this.path = path;
+            this.title = title;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.automation.framework.visual;
+
+import com.automation.framework.config.ConfigManager;
+import com.automation.framework.utils.ScreenshotWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Rectangle;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Local visual regression engine. A screenshot is first checked against
+ * cached hashes of its on-disk baseline: byte-identical captures match
+ * without decoding the baseline, and when visual.hash.skip.distance is set,
+ * captures whose perceptual hash (dHash) is that close also skip the pixel
+ * diff; with the default of -1 no perceptual hash is computed at all.
+ * Otherwise the images are diffed tile by tile in parallel on all cores
+ * with a per-channel tolerance and ignore regions, and a diff image
+ * highlighting the changed pixels is written. A missing baseline is
+ * written synchronously, once, before any result is returned, so
+ * concurrent checks of the same name create it only once.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class VisualComparator {
+
+    private static final Logger logger = LogManager.getLogger(VisualComparator.class);
+    private static final int TILE_SIZE = 256;
+    private static final int DIFF_COLOR = 0xFF0000;
+    private static volatile VisualComparator instance;
+
+    private final Path baselineDir;
+    private final Path diffDir;
+    private final int tolerance;
+    private final double maxDiffRatio;
+    private final int hashSkipDistance;
+    private final Map<Path, BaselineHash> baselineHashes = new ConcurrentHashMap<>();
+    private final Map<Path, Boolean> createdBaselines = new ConcurrentHashMap<>();
+    private final AtomicLong comparisons = new AtomicLong();
+    private final AtomicLong pixelDiffsSkipped = new AtomicLong();
+
+    private VisualComparator() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.baselineDir = Paths.get(config.getProperty("visual.baseline.dir", "src/test/resources/baselines"));
+        this.diffDir = Paths.get(config.getProperty("visual.diff.dir", "reports/visual-diffs"));
+        this.tolerance = config.getIntProperty("visual.pixel.tolerance", 16);
+        this.maxDiffRatio = Double.parseDouble(config.getProperty("visual.max.diff.ratio", "0.001"));
+        this.hashSkipDistance = config.getIntProperty("visual.hash.skip.distance", -1);
+    }
+
+    /**
+     * Get singleton instance of VisualComparator
+     * @return VisualComparator instance
+     */
+    public static VisualComparator getInstance() {
+        if (instance == null) {
+            synchronized (VisualComparator.class) {
+                if (instance == null) {
+                    instance = new VisualComparator();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Compare a screenshot with its baseline, creating the baseline if missing
+     * @param name Baseline name
+     * @param png Screenshot PNG bytes
+     * @param ignoreRegions Regions (in image pixels) excluded from the pixel diff
+     * @return Comparison result
+     */
+    public VisualDiffResult compare(String name, byte[] png, List<Rectangle> ignoreRegions) {
+        long start = System.nanoTime();
+        comparisons.incrementAndGet();
+        String fileName = name.replaceAll("[^a-zA-Z0-9]", "_");
+        Path baselinePath = baselineDir.resolve(fileName + ".png");
+
+        try {
+            if (!Files.exists(baselinePath) && createBaseline(baselinePath, png)) {
+                logger.info("Visual baseline created: " + baselinePath);
+                return result(name, VisualDiffResult.Status.BASELINE_CREATED, -1, 0, 0, null, start);
+            }
+
+            BaselineHash baselineHash = baselineHash(baselinePath);
+            if (baselineHash.contentHash.equals(contentHash(png))) {
+                pixelDiffsSkipped.incrementAndGet();
+                return result(name, VisualDiffResult.Status.MATCH, -1, 0, 0, null, start);
+            }
+
+            BufferedImage actual = toIntRgb(decode(png));
+            int distance = -1;
+            if (hashSkipDistance >= 0) {
+                distance = Long.bitCount(differenceHash(actual) ^ baselineHash.perceptualHash);
+                if (distance <= hashSkipDistance) {
+                    pixelDiffsSkipped.incrementAndGet();
+                    return result(name, VisualDiffResult.Status.PERCEPTUAL_MATCH, distance, 0, 0, null, start);
+                }
+            }
+
+            BufferedImage baseline = toIntRgb(decode(Files.readAllBytes(baselinePath)));
+            if (baseline.getWidth() != actual.getWidth() || baseline.getHeight() != actual.getHeight()) {
+                return result(name, VisualDiffResult.Status.SIZE_MISMATCH, distance, 0, 0, null, start);
+            }
+
+            BufferedImage diff = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+            long[] counts = diffTiles(baseline, actual, diff, ignoreRegions);
+            boolean match = counts[0] <= counts[1] * maxDiffRatio;
+
+            String diffPath = null;
+            if (!match) {
+                diffPath = diffDir.resolve(fileName + "_diff.png").toString();
+                ScreenshotWriter.getInstance().submit(encode(diff), Paths.get(diffPath));
+            }
+            return result(name, match ? VisualDiffResult.Status.MATCH : VisualDiffResult.Status.MISMATCH,
+                distance, counts[0], counts[1], diffPath, start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Visual comparison failed for: " + name, e);
+        }
+    }
+
+    /**
+     * Get comparison statistics summary
+     * @return Comparison count and how many pixel diffs the hash pre-check skipped
+     */
+    public String getStatistics() {
+        return "Visual comparisons: " + comparisons.get() + ", pixel diffs skipped: " + pixelDiffsSkipped.get();
+    }
+
+    /**
+     * Diff all tiles in parallel. Changed pixels are painted red in the diff
+     * image, unchanged ones as a dimmed copy of the screenshot.
+     * @return Changed pixel count and compared pixel count
+     */
+    private long[] diffTiles(BufferedImage baseline, BufferedImage actual, BufferedImage diff,
+                             List<Rectangle> ignoreRegions) {
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        int[] expected = ((DataBufferInt) baseline.getRaster().getDataBuffer()).getData();
+        int[] observed = ((DataBufferInt) actual.getRaster().getDataBuffer()).getData();
+        int[] output = ((DataBufferInt) diff.getRaster().getDataBuffer()).getData();
+        int columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+
+        AtomicLong changed = new AtomicLong();
+        AtomicLong compared = new AtomicLong();
+        IntStream.range(0, columns * rows).parallel().forEach(tile -> {
+            int x0 = (tile % columns) * TILE_SIZE;
+            int y0 = (tile / columns) * TILE_SIZE;
+            int x1 = Math.min(x0 + TILE_SIZE, width);
+            int y1 = Math.min(y0 + TILE_SIZE, height);
+            List<Rectangle> ignored = regionsIntersecting(ignoreRegions, x0, y0, x1, y1);
+
+            long tileChanged = 0;
+            long tileCompared = 0;
+            for (int y = y0; y < y1; y++) {
+                int row = y * width;
+                for (int x = x0; x < x1; x++) {
+                    int index = row + x;
+                    int pixel = observed[index];
+                    if (!ignored.isEmpty() && isIgnored(ignored, x, y)) {
+                        output[index] = dim(pixel);
+                        continue;
+                    }
+                    tileCompared++;
+                    if (exceedsTolerance(expected[index], pixel)) {
+                        tileChanged++;
+                        output[index] = DIFF_COLOR;
+                    } else {
+                        output[index] = dim(pixel);
+                    }
+                }
+            }
+            changed.addAndGet(tileChanged);
+            compared.addAndGet(tileCompared);
+        });
+        return new long[] {changed.get(), compared.get()};
+    }
+
+    private boolean exceedsTolerance(int expected, int actual) {
+        if (expected == actual) {
+            return false;
+        }
+        return Math.abs(((expected >> 16) & 0xFF) - ((actual >> 16) & 0xFF)) > tolerance
+            || Math.abs(((expected >> 8) & 0xFF) - ((actual >> 8) & 0xFF)) > tolerance
+            || Math.abs((expected & 0xFF) - (actual & 0xFF)) > tolerance;
+    }
+
+    private static int dim(int pixel) {
+        return (pixel >> 2) & 0x3F3F3F;
+    }
+
+    private static List<Rectangle> regionsIntersecting(List<Rectangle> regions, int x0, int y0, int x1, int y1) {
+        List<Rectangle> result = new ArrayList<>();
+        if (regions != null) {
+            for (Rectangle region : regions) {
+                if (region.getX() < x1 && region.getX() + region.getWidth() > x0
+                    && region.getY() < y1 && region.getY() + region.getHeight() > y0) {
+                    result.add(region);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIgnored(List<Rectangle> regions, int x, int y) {
+        for (Rectangle region : regions) {
+            if (x >= region.getX() && x < region.getX() + region.getWidth()
+                && y >= region.getY() && y < region.getY() + region.getHeight()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write a missing baseline. The write is synchronous and atomic, and
+     * callers racing on the same path wait for the first one, so the
+     * baseline is created once and exists when this returns.
+     * @return true if this call created the baseline
+     */
+    private boolean createBaseline(Path baselinePath, byte[] png) {
+        boolean[] created = {false};
+        createdBaselines.computeIfAbsent(baselinePath, path -> {
+            if (!Files.exists(path)) {
+                try {
+                    Path directory = Files.createDirectories(path.toAbsolutePath().getParent());
+                    Path temp = Files.createTempFile(directory, path.getFileName() + ".", ".tmp");
+                    try {
+                        Files.write(temp, png);
+                        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+                    } finally {
+                        Files.deleteIfExists(temp);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to create visual baseline: " + path, e);
+                }
+                created[0] = true;
+            }
+            return Boolean.TRUE;
+        });
+        return created[0];
+    }
+
+    /**
+     * Content and perceptual hash of a baseline, cached until the file
+     * changes; the perceptual hash is only computed when the pre-check is on
+     */
+    private BaselineHash baselineHash(Path baselinePath) throws IOException {
+        long modified = Files.getLastModifiedTime(baselinePath).toMillis();
+        BaselineHash cached = baselineHashes.get(baselinePath);
+        if (cached != null && cached.modified == modified) {
+            return cached;
+        }
+        byte[] bytes = Files.readAllBytes(baselinePath);
+        long perceptualHash = hashSkipDistance >= 0 ? differenceHash(decode(bytes)) : 0;
+        BaselineHash hash = new BaselineHash(modified, contentHash(bytes), perceptualHash);
+        baselineHashes.put(baselinePath, hash);
+        return hash;
+    }
+
+    private static String contentHash(byte[] bytes) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 64-bit difference hash: shrink to 9x8 grayscale and record whether
+     * each pixel is brighter than its right neighbour
+     */
+    private static long differenceHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = small.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, 9, 8, null);
+        } finally {
+            graphics.dispose();
+        }
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = small.getRaster().getSample(x, y, 0);
+                int right = small.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        if (image == null) {
+            throw new IOException("Not a readable image");
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage toIntRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private VisualDiffResult result(String name, VisualDiffResult.Status status, int distance, long diffPixels,
+                                    long comparedPixels, String diffPath, long startNanos) {
+        VisualDiffResult result = new VisualDiffResult(name, status, distance, diffPixels, comparedPixels,
+            diffPath, (System.nanoTime() - startNanos) / 1_000_000);
+        logger.info(result.toString());
+        return result;
+    }
+
+    /**
+     * Cached baseline hashes with the file modification time they were computed for
+     */
+    private static class BaselineHash {
+        private final long modified;
+        private final String contentHash;
+        private final long perceptualHash;
+
+        BaselineHash(long modified, String contentHash, long perceptualHash) {
+            this.modified = modified;
+            this.contentHash = contentHash;
+            this.perceptualHash = perceptualHash;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.automation.framework.visual;
+
+/**
+ * Outcome of comparing a screenshot with its baseline
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class VisualDiffResult {
+
+    /**
+     * How the comparison was decided
+     */
+    public enum Status {
+        /** No baseline existed; the screenshot was stored as the new baseline */
+        BASELINE_CREATED,
+        /** Perceptual hashes were within visual.hash.skip.distance, pixel diff skipped */
+        PERCEPTUAL_MATCH,
+        /** Identical to the baseline, or pixel diff stayed within the allowed ratio */
+        MATCH,
+        /** Pixel diff exceeded the allowed ratio */
+        MISMATCH,
+        /** Screenshot and baseline have different dimensions */
+        SIZE_MISMATCH
+    }
+
+    private final String name;
+    private final Status status;
+    private final int hashDistance;
+    private final long diffPixels;
+    private final long comparedPixels;
+    private final String diffImagePath;
+    private final long durationMillis;
+
+    VisualDiffResult(String name, Status status, int hashDistance, long diffPixels, long comparedPixels,
+                     String diffImagePath, long durationMillis) {
+        this.name = name;
+        this.status = status;
+        this.hashDistance = hashDistance;
+        this.diffPixels = diffPixels;
+        this.comparedPixels = comparedPixels;
+        this.diffImagePath = diffImagePath;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Check if the screenshot is considered visually unchanged
+     * @return true unless the diff or dimensions do not match
+     */
+    public boolean isMatch() {
+        return status != Status.MISMATCH && status != Status.SIZE_MISMATCH;
+    }
+
+    /**
+     * Hamming distance between the perceptual hashes (0-64)
+     * @return Hash distance, or -1 if no hash was computed (pre-check disabled or identical bytes)
+     */
+    public int getHashDistance() {
+        return hashDistance;
+    }
+
+    public long getDiffPixels() {
+        return diffPixels;
+    }
+
+    public long getComparedPixels() {
+        return comparedPixels;
+    }
+
+    /**
+     * Share of compared pixels that differ beyond the tolerance
+     * @return Ratio between 0 and 1
+     */
+    public double getDiffRatio() {
+        return comparedPixels == 0 ? 0 : (double) diffPixels / comparedPixels;
+    }
+
+    /**
+     * Path of the diff image highlighting changed pixels
+     * @return Diff image path, or null if no diff image was produced
+     */
+    public String getDiffImagePath() {
+        return diffImagePath;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Visual check '" + name + "': " + status
+            + " (hash distance " + hashDistance
+            + ", diff pixels " + diffPixels + "/" + comparedPixels
+            + ", " + durationMillis + " ms)";
+    }
+}
@@ -0,0 +1,81 @@
+package com.automation.framework.waits;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with fixed millisecond buckets
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    
+    private static final long[] BUCKET_LIMITS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_LIMITS_MS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    
+    /**
+     * Record one wait
+     * @param millis Wait duration in milliseconds
+     * @param timedOut true if the wait ended in a timeout
+     */
+    public void record(long millis, boolean timedOut) {
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS_MS.length && millis > BUCKET_LIMITS_MS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalMillis.addAndGet(millis);
+        maxMillis.accumulateAndGet(millis, Math::max);
+        if (timedOut) {
+            timeouts.incrementAndGet();
+        }
+    }
+    
+    public long getCount() {
+        return count.get();
+    }
+    
+    public long getTotalMillis() {
+        return totalMillis.get();
+    }
+    
+    /**
+     * Get upper bound of the bucket holding the given percentile
+     * @param percentile Percentile between 0 and 100
+     * @return Bucket upper limit in milliseconds, or the max for the overflow bucket
+     */
+    public long getPercentileMillis(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return i < BUCKET_LIMITS_MS.length ? BUCKET_LIMITS_MS[i] : maxMillis.get();
+            }
+        }
+        return maxMillis.get();
+    }
+    
+    @Override
+    public String toString() {
+        long total = count.get();
+        long average = total == 0 ? 0 : totalMillis.get() / total;
+        return "count=" + total
+            + ", avg=" + average + "ms"
+            + ", p50<=" + getPercentileMillis(50) + "ms"
+            + ", p95<=" + getPercentileMillis(95) + "ms"
+            + ", max=" + maxMillis.get() + "ms"
+            + ", timeouts=" + timeouts.get();
+    }
+}
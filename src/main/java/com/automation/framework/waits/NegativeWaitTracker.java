@@ -0,0 +1,54 @@
+package com.automation.framework.waits;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-thread accounting of time spent in checks that ended negatively:
+ * absent elements, timed-out waits and absence checks. Reset at the start
+ * of each test so the total can be reported per test.
+ * 
+ * @author Automation Framework
+ * @version 1.0
+ */
+public final class NegativeWaitTracker {
+    
+    private static final ThreadLocal<long[]> totals = ThreadLocal.withInitial(() -> new long[2]);
+    
+    private NegativeWaitTracker() {
+    }
+    
+    /**
+     * Record time spent in a negative check
+     * @param nanos Duration in nanoseconds
+     */
+    public static void record(long nanos) {
+        long[] current = totals.get();
+        current[0] += nanos;
+        current[1]++;
+    }
+    
+    /**
+     * Reset the current thread's totals
+     */
+    public static void reset() {
+        long[] current = totals.get();
+        current[0] = 0;
+        current[1] = 0;
+    }
+    
+    /**
+     * Get time lost to negative checks on the current thread
+     * @return Total duration in milliseconds
+     */
+    public static long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totals.get()[0]);
+    }
+    
+    /**
+     * Get number of negative checks on the current thread
+     * @return Check count
+     */
+    public static long getCount() {
+        return totals.get()[1];
+    }
+}
@@ -0,0 +1,27 @@
+package com.automation.framework.waits;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Named condition evaluated by the WaitEngine. A condition is satisfied
+ * when it returns a non-null value other than Boolean.FALSE.
+ * 
+ * @param <T> Result type
+ * @author Automation Framework
+ * @version 1.0
+ */
+public interface WaitCondition<T> {
+    
+    /**
+     * Get condition name, used as the latency histogram key
+     * @return Condition name
+     */
+    String getName();
+    
+    /**
+     * Evaluate the condition once
+     * @param driver WebDriver instance
+     * @return Result, or null/false if not yet satisfied
+     */
+    T evaluate(WebDriver driver);
+}
@@ -0,0 +1,190 @@
+package com.automation.framework.waits;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Factory for conditions understood by the WaitEngine
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public final class WaitConditions {
+
+    private static final String DOM_SIGNATURE_SCRIPT =
+        "return document.getElementsByTagName('*').length + ':' "
+        + "+ (document.body ? document.body.innerHTML.length : 0);";
+
+    // The resource timing buffer stops growing at 250 entries by default, so resources are counted
+    // by a PerformanceObserver installed on first use, which sees every entry whether buffered or not
+    private static final String NETWORK_SIGNATURE_SCRIPT =
+        "var activity = window.__automationNetworkActivity;"
+        + "if (!activity) {"
+        + "  activity = window.__automationNetworkActivity = {count: 0};"
+        + "  try {"
+        + "    new PerformanceObserver(function (list) { activity.count += list.getEntries().length; })"
+        + "      .observe({type: 'resource'});"
+        + "  } catch (e) {"
+        + "    activity.buffered = true;"
+        + "    if (performance.setResourceTimingBufferSize) { performance.setResourceTimingBufferSize(100000); }"
+        + "  }"
+        + "}"
+        + "var count = activity.buffered ? performance.getEntriesByType('resource').length : activity.count;"
+        + "return document.readyState + ':' + count;";
+
+    private WaitConditions() {
+    }
+
+    /**
+     * Current URL contains a fragment
+     * @param fragment Expected URL fragment
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> urlContains(String fragment) {
+        return of("urlContains", driver -> driver.getCurrentUrl().contains(fragment));
+    }
+
+    /**
+     * Current URL matches a regular expression (partial match)
+     * @param regex URL pattern
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> urlMatches(String regex) {
+        return of("urlMatches", ExpectedConditions.urlMatches(regex));
+    }
+
+    /**
+     * Document has finished loading
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> documentReady() {
+        return of("documentReady",
+            driver -> "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState;")));
+    }
+
+    /**
+     * Document is loaded and no new resources were fetched for a quiet period.
+     * Resources are counted by a PerformanceObserver, so pages that fetch
+     * more than the resource timing buffer holds are still tracked.
+     * @param quietPeriod How long the resource count must stay unchanged
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> networkIdle(Duration quietPeriod) {
+        return stable("networkIdle", quietPeriod,
+            driver -> ((JavascriptExecutor) driver).executeScript(NETWORK_SIGNATURE_SCRIPT),
+            signature -> String.valueOf(signature).startsWith("complete:"));
+    }
+
+    /**
+     * DOM size did not change for a quiet period
+     * @param quietPeriod How long the DOM must stay unchanged
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> domStable(Duration quietPeriod) {
+        return stable("domStable", quietPeriod,
+            driver -> ((JavascriptExecutor) driver).executeScript(DOM_SIGNATURE_SCRIPT),
+            signature -> true);
+    }
+
+    /**
+     * Number of elements matching a locator is non-zero and did not change for a quiet period
+     * @param locator Element locator
+     * @param quietPeriod How long the count must stay unchanged
+     * @return Condition
+     */
+    public static WaitCondition<Boolean> elementCountStable(By locator, Duration quietPeriod) {
+        return stable("elementCountStable", quietPeriod,
+            driver -> driver.findElements(locator).size(),
+            count -> (Integer) count > 0);
+    }
+
+    /**
+     * Element is present in the DOM
+     * @param locator Element locator
+     * @return Condition returning the element
+     */
+    public static WaitCondition<WebElement> presenceOf(By locator) {
+        return of("presenceOf", ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    /**
+     * Element is visible
+     * @param locator Element locator
+     * @return Condition returning the element
+     */
+    public static WaitCondition<WebElement> visibilityOf(By locator) {
+        return of("visibilityOf", ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    /**
+     * Element is visible and enabled
+     * @param locator Element locator
+     * @return Condition returning the element
+     */
+    public static WaitCondition<WebElement> elementToBeClickable(By locator) {
+        return of("elementToBeClickable", ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Create a named condition from a function
+     * @param name Condition name
+     * @param check Function returning a result once satisfied
+     * @param <T> Result type
+     * @return Condition
+     */
+    public static <T> WaitCondition<T> of(String name, Function<WebDriver, T> check) {
+        return new WaitCondition<T>() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public T evaluate(WebDriver driver) {
+                return check.apply(driver);
+            }
+        };
+    }
+
+    /**
+     * Condition met once a probed value stays equal for a quiet period
+     * and is accepted by the readiness predicate
+     * @param name Condition name
+     * @param quietPeriod Required stable duration
+     * @param probe Value to observe
+     * @param ready Predicate the stable value must satisfy
+     * @return Condition
+     */
+    private static WaitCondition<Boolean> stable(String name, Duration quietPeriod,
+                                                 Function<WebDriver, Object> probe, Predicate<Object> ready) {
+        return new WaitCondition<Boolean>() {
+            private Object lastValue;
+            private long stableSince;
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Boolean evaluate(WebDriver driver) {
+                Object value = probe.apply(driver);
+                long now = System.nanoTime();
+                if (stableSince == 0 || !Objects.equals(value, lastValue)) {
+                    lastValue = value;
+                    stableSince = now;
+                    return false;
+                }
+                return ready.test(value) && now - stableSince >= quietPeriod.toNanos();
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.automation.framework.waits;
+
+import com.automation.framework.config.ConfigManager;
+import com.automation.framework.driver.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Condition-based wait engine with adaptive polling. Polling starts a few
+ * milliseconds after the first check and backs off geometrically, so fast
+ * conditions return almost immediately while slow ones are not hammered.
+ * Every wait is recorded in a per-condition latency histogram.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class WaitEngine {
+
+    private static final Logger logger = LogManager.getLogger(WaitEngine.class);
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private final WebDriver driver;
+    private final Duration defaultTimeout;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+
+    /**
+     * Create wait engine for a driver
+     * @param driver WebDriver instance
+     * @param defaultTimeout Timeout used when none is given
+     */
+    public WaitEngine(WebDriver driver, Duration defaultTimeout) {
+        ConfigManager config = ConfigManager.getInstance();
+        this.driver = driver;
+        this.defaultTimeout = defaultTimeout;
+        this.initialPollMillis = config.getIntProperty("wait.poll.initial.ms", 5);
+        this.maxPollMillis = config.getIntProperty("wait.poll.max.ms", 250);
+    }
+
+    /**
+     * Wait for a condition with the default timeout
+     * @param condition Condition to wait for
+     * @param <T> Result type
+     * @return Condition result
+     */
+    public <T> T until(WaitCondition<T> condition) {
+        return until(condition, defaultTimeout);
+    }
+
+    /**
+     * Wait for a condition. The implicit wait is suspended while polling so
+     * a missing element costs one poll interval, not the implicit timeout.
+     * @param condition Condition to wait for
+     * @param timeout Maximum time to wait
+     * @param <T> Result type
+     * @return Condition result
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(WaitCondition<T> condition, Duration timeout) {
+        return DriverFactory.withoutImplicitWait(driver, () -> poll(condition, timeout));
+    }
+
+    private <T> T poll(WaitCondition<T> condition, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = initialPollMillis;
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T result = condition.evaluate(driver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    record(condition, start, false);
+                    return result;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                record(condition, start, true);
+                NegativeWaitTracker.record(System.nanoTime() - start);
+                throw new TimeoutException("Condition '" + condition.getName() + "' not met within "
+                    + timeout.toMillis() + " ms", lastError);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(maxPollMillis, Math.max(pollMillis + 1, (long) (pollMillis * BACKOFF_FACTOR)));
+        }
+    }
+
+    /**
+     * Get latency histogram for a condition name
+     * @param conditionName Condition name
+     * @return Histogram, or null if the condition was never waited on
+     */
+    public static LatencyHistogram getHistogram(String conditionName) {
+        return histograms.get(conditionName);
+    }
+
+    /**
+     * Get per-condition latency report
+     * @return One line per condition, sorted by name
+     */
+    public static String getLatencyReport() {
+        StringBuilder report = new StringBuilder("Wait latency by condition:");
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            report.append(System.lineSeparator()).append("  ").append(entry.getKey())
+                .append(": ").append(entry.getValue());
+        }
+        return report.toString();
+    }
+
+    private void record(WaitCondition<?> condition, long startNanos, boolean timedOut) {
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        histograms.computeIfAbsent(condition.getName(), name -> new LatencyHistogram()).record(millis, timedOut);
+        logger.debug("Wait for '" + condition.getName() + "' " + (timedOut ? "timed out" : "met")
+            + " after " + millis + " ms");
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", e);
+        }
+    }
+}
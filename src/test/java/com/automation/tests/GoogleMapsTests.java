@@ -56,11 +56,7 @@ public class GoogleMapsTests extends BaseTest {
         googleMapsPage.searchLocation(searchLocation);
         
         // Wait for search results to load
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForSearchResults();
         
         String currentUrl = googleMapsPage.getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("Times+Square"), 
@@ -83,21 +79,11 @@ public class GoogleMapsTests extends BaseTest {
         
         // Search for a location first
         googleMapsPage.searchLocation("Central Park, New York");
-        
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForSearchResults();
         
         // Click on Directions
         googleMapsPage.clickDirections();
-        
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForDirectionsPanel();
         
         // Plan route
         String source = "Times Square, New York";
@@ -105,11 +91,7 @@ public class GoogleMapsTests extends BaseTest {
         googleMapsPage.planRoute(source, destination);
         
         // Wait for route calculation
-        try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForRoute();
         
         // Verify route is displayed
         boolean isRouteDisplayed = googleMapsPage.isRouteDisplayed();
@@ -119,7 +101,12 @@ public class GoogleMapsTests extends BaseTest {
         String routeInfo = googleMapsPage.getRouteInfo();
         logger.info("Route information: " + routeInfo);
         
-        takeScreenshot("Route Planning Results");
+        String routeScreenshot = googleMapsPage.takeRouteInfoScreenshot("Route Planning Results");
+        if (routeScreenshot != null) {
+            attachScreenshot(routeScreenshot, "Route Planning Results");
+        } else {
+            takeScreenshot("Route Planning Results");
+        }
     }
     
     @Test(description = "Test navigation to different map views", 
@@ -137,11 +124,7 @@ public class GoogleMapsTests extends BaseTest {
         // Test searching for a landmark
         googleMapsPage.searchLocation("Statue of Liberty");
         
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForSearchResults();
         
         String pageTitle = googleMapsPage.getGoogleMapsTitle();
         Assert.assertNotNull(pageTitle, "Page title should not be null");
@@ -165,11 +148,7 @@ public class GoogleMapsTests extends BaseTest {
         String invalidLocation = "XYZ123InvalidLocation";
         googleMapsPage.searchLocation(invalidLocation);
         
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        googleMapsPage.waitForSearchResults();
         
         // The test should complete without errors
         // Google Maps typically handles invalid searches gracefully
@@ -1,16 +1,28 @@
 package com.automation.tests.base;
 
 import com.automation.framework.config.ConfigManager;
+import com.automation.framework.config.DriverScope;
 import com.automation.framework.driver.DriverFactory;
+import com.automation.framework.driver.DriverPool;
+import com.automation.framework.pages.ElementCache;
 import com.automation.framework.utils.ExtentReportManager;
 import com.automation.framework.utils.ScreenshotUtils;
+import com.automation.framework.utils.TestDataCache;
+import com.automation.framework.visual.VisualDiffResult;
+import com.automation.framework.waits.NegativeWaitTracker;
+import com.automation.framework.waits.WaitEngine;
 import io.qameta.allure.Attachment;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Rectangle;
+import org.testng.Assert;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 /**
  * Base Test class containing common setup and teardown methods
@@ -22,28 +34,44 @@ public class BaseTest {
     
     protected final Logger logger = LogManager.getLogger(this.getClass());
     protected ConfigManager config;
+    protected DriverScope driverScope;
     
     @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
         logger.info("Starting test suite execution");
         ExtentReportManager.initReports();
         config = ConfigManager.getInstance();
+        
+        // Pre-launch pooled browser sessions
+        if (DriverPool.isEnabled()) {
+            String browser = config.getBrowser();
+            DriverPool.getInstance().warmUp(browser, config.getIntProperty("driver.pool.size", 3));
+        }
     }
     
     @BeforeClass(alwaysRun = true)
     public void beforeClass() {
         logger.info("Starting test class: " + this.getClass().getSimpleName());
+        config = ConfigManager.getInstance();
+        driverScope = DriverScope.fromConfig();
     }
     
     @BeforeMethod(alwaysRun = true)
-    public void beforeMethod(Method method) {
+    public void beforeMethod(Method method, ITestContext context) {
         logger.info("Starting test method: " + method.getName());
+        NegativeWaitTracker.reset();
         
-        // Get browser from system property or config
-        String browser = System.getProperty("browser", config.getBrowser());
+        // Browser resolved by config (-Dbrowser and BROWSER_DEFAULT override the file)
+        String browser = config.getBrowser();
         
-        // Create WebDriver instance
-        DriverFactory.createDriver(browser);
+        // Acquire WebDriver instance
+        long acquireStart = System.currentTimeMillis();
+        if (driverScope == DriverScope.METHOD) {
+            DriverFactory.acquireDriver(browser);
+        } else {
+            DriverFactory.acquireScopedDriver(browser, getScopeKey(context));
+        }
+        long driverReadyMillis = System.currentTimeMillis() - acquireStart;
         
         // Create test in ExtentReports
         String testName = method.getName();
@@ -56,7 +84,8 @@ public class BaseTest {
             ExtentReportManager.createTest(testName, testDescription);
         }
         
-        ExtentReportManager.logInfo("Test started with browser: " + browser);
+        ExtentReportManager.logInfo("Test started with browser: " + browser
+            + " (driver ready in " + driverReadyMillis + " ms)");
     }
     
     @AfterMethod(alwaysRun = true)
@@ -64,6 +93,13 @@ public class BaseTest {
         String testName = result.getMethod().getMethodName();
         
         try {
+            if (NegativeWaitTracker.getCount() > 0) {
+                String negativeWaits = "Time lost to negative waits: " + NegativeWaitTracker.getTotalMillis()
+                    + " ms over " + NegativeWaitTracker.getCount() + " check(s)";
+                logger.info(negativeWaits + " in " + testName);
+                ExtentReportManager.logInfo(negativeWaits);
+            }
+            
             if (result.getStatus() == ITestResult.FAILURE) {
                 logger.error("Test failed: " + testName);
                 
@@ -91,23 +127,66 @@ public class BaseTest {
                 ExtentReportManager.markTestSkipped("Test was skipped");
             }
         } finally {
-            // Clean up WebDriver
-            DriverFactory.quitDriver();
+            // Release WebDriver, or keep it for the next method of a wider scope
+            if (driverScope == DriverScope.METHOD) {
+                DriverFactory.releaseDriver();
+            } else if (!DriverFactory.resetSession().isClean()) {
+                // Already reset once; the pool must not try again
+                DriverFactory.discardDriver();
+            }
             ExtentReportManager.removeTest();
         }
     }
     
     @AfterClass(alwaysRun = true)
-    public void afterClass() {
+    public void afterClass(ITestContext context) {
         logger.info("Completed test class: " + this.getClass().getSimpleName());
+        if (driverScope == DriverScope.CLASS) {
+            DriverFactory.releaseScope(getScopeKey(context));
+        }
+    }
+    
+    @AfterTest(alwaysRun = true)
+    public void afterTest(ITestContext context) {
+        if (driverScope == DriverScope.TEST) {
+            DriverFactory.releaseScope(getScopeKey(context));
+        }
     }
     
     @AfterSuite(alwaysRun = true)
-    public void afterSuite() {
+    public void afterSuite(ITestContext context) {
         logger.info("Completed test suite execution");
+        if (driverScope == DriverScope.SUITE) {
+            DriverFactory.releaseScope(getScopeKey(context));
+        }
+        if (DriverPool.isEnabled()) {
+            DriverPool.getInstance().shutdown();
+        }
+        logger.info(ElementCache.getTotalStatistics());
+        logger.info(WaitEngine.getLatencyReport());
+        logger.info(TestDataCache.getInstance().getStatistics());
+        ScreenshotUtils.flush();
         ExtentReportManager.flushReports();
     }
     
+    /**
+     * Get the key of the scope that owns drivers for the configured driver scope
+     * @param context Test context
+     * @return Scope key
+     */
+    private String getScopeKey(ITestContext context) {
+        switch (driverScope) {
+            case CLASS:
+                return "class:" + context.getName() + ":" + this.getClass().getName();
+            case TEST:
+                return "test:" + context.getName();
+            case SUITE:
+                return "suite:" + context.getSuite().getName();
+            default:
+                return "method";
+        }
+    }
+    
     /**
      * Get test description from Test annotation
      * @param method Test method
@@ -141,7 +220,8 @@ public class BaseTest {
     @Attachment(value = "Failure Screenshot", type = "image/png")
     private byte[] attachScreenshotToAllure(String screenshotPath) {
         try {
-            return ScreenshotUtils.class.getResourceAsStream(screenshotPath).readAllBytes();
+            ScreenshotUtils.awaitPersisted(screenshotPath);
+            return Files.readAllBytes(Paths.get(screenshotPath));
         } catch (Exception e) {
             logger.error("Failed to attach screenshot to Allure: " + e.getMessage());
             return new byte[0];
@@ -163,7 +243,27 @@ public class BaseTest {
      * @param description Screenshot description
      */
     protected void takeScreenshot(String description) {
-        String screenshotPath = ScreenshotUtils.takeScreenshot(description);
+        attachScreenshot(ScreenshotUtils.takeScreenshot(description), description);
+    }
+    
+    /**
+     * Assert the current viewport matches its visual baseline
+     * @param name Baseline name
+     * @param ignoreRegions Regions (in screenshot pixels) excluded from the comparison
+     */
+    protected void assertVisualMatch(String name, Rectangle... ignoreRegions) {
+        VisualDiffResult result = ScreenshotUtils.compareWithBaseline(name, ignoreRegions);
+        Assert.assertNotNull(result, "Visual check could not take a screenshot: " + name);
+        ExtentReportManager.logInfo(result.toString());
+        Assert.assertTrue(result.isMatch(), result.toString());
+    }
+    
+    /**
+     * Attach a screenshot taken elsewhere (e.g. element or region screenshot) to the report
+     * @param screenshotPath Screenshot file path, ignored if null
+     * @param description Screenshot description
+     */
+    protected void attachScreenshot(String screenshotPath, String description) {
         if (screenshotPath != null) {
             ExtentReportManager.addScreenshot(screenshotPath, description);
         }
@@ -0,0 +1,73 @@
+package com.automation.tests.framework;
+
+import com.automation.framework.utils.ExcelDataProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for compact test data rows and the CSV parser behind them: a
+ * compact row must behave exactly like the HashMap row read from the same
+ * file, and quoted CSV fields must survive parsing. No browser is needed.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class CompactTestDataTests {
+
+    private static final String TEST_DATA_DIR = "src/test/resources/testdata/";
+    private static final String EDGE_CASES_FILE = TEST_DATA_DIR + "csv-edge-cases.csv";
+    private static final String REPEATED_HEADER_FILE = TEST_DATA_DIR + "repeated-header.csv";
+
+    @Test(description = "Compact rows equal and hash like the HashMap rows of the same file",
+          groups = {"framework"})
+    public void testCompactRowEqualsHashMapRow() {
+        for (String file : Arrays.asList("src/test/resources/testdata.csv", EDGE_CASES_FILE, REPEATED_HEADER_FILE)) {
+            List<Map<String, String>> compact = ExcelDataProvider.readCompactTestData(file, null);
+            List<Map<String, String>> plain = ExcelDataProvider.readCsvData(file);
+
+            Assert.assertEquals(compact.size(), plain.size(), "Row count differs for " + file);
+            for (int i = 0; i < compact.size(); i++) {
+                Map<String, String> hashMapRow = new HashMap<>(plain.get(i));
+                Assert.assertEquals(compact.get(i), hashMapRow, "Row " + i + " of " + file);
+                Assert.assertEquals(hashMapRow, compact.get(i), "Row " + i + " of " + file + " (reversed)");
+                Assert.assertEquals(compact.get(i).hashCode(), hashMapRow.hashCode(),
+                    "Hash code of row " + i + " of " + file);
+                Assert.assertEquals(compact.get(i).keySet(), hashMapRow.keySet());
+            }
+        }
+    }
+
+    @Test(description = "A repeated header keeps one column holding the last value, as Map.put would",
+          groups = {"framework"})
+    public void testRepeatedHeaderTakesLastValue() {
+        List<Map<String, String>> rows = ExcelDataProvider.readCompactTestData(REPEATED_HEADER_FILE, null);
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).size(), 2, "Repeated header must map to a single column");
+        Assert.assertEquals(rows.get(0).get("Browser"), "firefox");
+        Assert.assertEquals(rows.get(1).get("Browser"), "", "Empty last value must win over an earlier one");
+        Assert.assertEquals(rows.get(1).get("TestCase"), "second");
+    }
+
+    @Test(description = "CSV fields keep quoted commas, embedded newlines and doubled quotes; a BOM is dropped",
+          groups = {"framework"})
+    public void testCsvQuotedFields() {
+        List<Map<String, String>> rows = ExcelDataProvider.readCompactTestData(EDGE_CASES_FILE, null);
+
+        Assert.assertEquals(rows.size(), 4, "Blank lines must be skipped and quoted newlines must not split rows");
+        Assert.assertTrue(rows.get(0).containsKey("TestCase"), "BOM must be stripped from the first header");
+        Assert.assertEquals(rows.get(0).get("TestCase"), "quotedComma");
+        Assert.assertEquals(rows.get(0).get("Destination"), "Times Square, New York");
+        Assert.assertEquals(rows.get(1).get("Notes"), "line one\r\nline two");
+        Assert.assertEquals(rows.get(1).get("Priority"), "low");
+        Assert.assertEquals(rows.get(2).get("Destination"), "The \"Big\" Apple");
+        Assert.assertEquals(rows.get(2).get("Notes"), "say \"hi\"");
+        Assert.assertEquals(rows.get(3).get("Destination"), "Statue of Liberty");
+        Assert.assertEquals(rows.get(3).get("Priority"), "", "Missing trailing fields must be empty");
+    }
+}
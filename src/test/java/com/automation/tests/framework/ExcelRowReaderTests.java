@@ -0,0 +1,183 @@
+package com.automation.tests.framework;
+
+import com.automation.framework.utils.ExcelDataProvider;
+import com.automation.framework.utils.ExcelRowReader;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the streaming ExcelRowReader against a small xlsx fixture that
+ * holds one cell of every kind the reader formats: shared and inline
+ * strings, numbers, formulas, shared formulas, dates and booleans, plus
+ * generated workbooks for 1904-based dates and a large sheet read with a
+ * capped heap. No browser is needed.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class ExcelRowReaderTests {
+
+    private static final String CELL_TYPES_FILE = "src/test/resources/testdata/cell-types.xlsx";
+    private static final String SHEET = "CellTypes";
+    private static final int LARGE_SHEET_ROWS = 100_000;
+    private static final String LARGE_SHEET_HEAP = "-Xmx48m";
+
+    @Test(description = "Every cell type is formatted like ExcelDataProvider formats cells",
+          groups = {"framework"})
+    public void testCellTypes() throws Exception {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (ExcelRowReader reader = ExcelRowReader.open(Paths.get(CELL_TYPES_FILE), SHEET)) {
+            Assert.assertEquals(reader.getHeaders(),
+                Arrays.asList("TestCase", "Text", "Number", "Formula", "Shared", "Date", "Flag"));
+            reader.forEachRemaining(rows::add);
+            Assert.assertEquals(reader.getRowsRead(), 2);
+        }
+
+        Map<String, String> first = rows.get(0);
+        Assert.assertEquals(first.get("TestCase"), "sharedString");
+        Assert.assertEquals(first.get("Text"), "inline value");
+        Assert.assertEquals(first.get("Number"), "42");
+        Assert.assertEquals(first.get("Formula"), "SUM(C2,1)", "Formula cells return the formula text");
+        Assert.assertEquals(first.get("Shared"), "C2*2", "The anchor cell of a shared formula holds its text");
+        Assert.assertEquals(first.get("Date"), DateUtil.getJavaDate(45292).toString());
+        Assert.assertEquals(first.get("Flag"), "true");
+
+        Map<String, String> second = rows.get(1);
+        Assert.assertEquals(second.get("Text"), "shared text");
+        Assert.assertEquals(second.get("Number"), "3");
+        Assert.assertEquals(second.get("Formula"), "\"a\"&\"b\"");
+        // Dependent shared formula cells carry no formula text in the file; the cached result is returned
+        Assert.assertEquals(second.get("Shared"), "6");
+        Assert.assertEquals(second.get("Date"), "", "Missing cells are empty");
+        Assert.assertEquals(second.get("Flag"), "false");
+    }
+
+    @Test(description = "readTestData returns the same rows as the streaming reader",
+          groups = {"framework"})
+    public void testReadTestDataMatchesReader() throws Exception {
+        List<Map<String, String>> streamed = new ArrayList<>();
+        try (ExcelRowReader reader = ExcelRowReader.open(Paths.get(CELL_TYPES_FILE), SHEET)) {
+            reader.forEachRemaining(streamed::add);
+        }
+
+        Assert.assertEquals(ExcelDataProvider.readTestData(CELL_TYPES_FILE, SHEET), streamed);
+        Assert.assertEquals(ExcelDataProvider.readCompactTestData(CELL_TYPES_FILE, SHEET), streamed);
+    }
+
+    @Test(description = "Opening a missing sheet fails instead of returning no rows",
+          groups = {"framework"}, expectedExceptions = IllegalArgumentException.class)
+    public void testMissingSheet() throws Exception {
+        ExcelRowReader.open(Paths.get(CELL_TYPES_FILE), "NoSuchSheet").close();
+    }
+
+    @Test(description = "Dates in a workbook using the 1904 date system are read as the dates written",
+          groups = {"framework"})
+    public void testDate1904() throws Exception {
+        Date written = new GregorianCalendar(2024, 0, 1).getTime();
+        Path file = Files.createTempFile("date1904", ".xlsx");
+        try {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+                workbook.getCTWorkbook().getWorkbookPr().setDate1904(true);
+                CellStyle dateStyle = workbook.createCellStyle();
+                dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+                XSSFSheet sheet = workbook.createSheet(SHEET);
+                sheet.createRow(0).createCell(0).setCellValue("Date");
+                sheet.createRow(1).createCell(0).setCellValue(written);
+                sheet.getRow(1).getCell(0).setCellStyle(dateStyle);
+                Assert.assertTrue(workbook.isDate1904());
+                workbook.write(out);
+            }
+
+            try (ExcelRowReader reader = ExcelRowReader.open(file, SHEET)) {
+                Assert.assertEquals(reader.next().get("Date"), written.toString());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "A 100k row sheet is read in a JVM whose heap could not hold the sheet",
+          groups = {"framework"})
+    public void testLargeSheetWithCappedHeap() throws Exception {
+        Path file = Files.createTempFile("large-sheet", ".xlsx");
+        try {
+            writeLargeSheet(file);
+            Process process = new ProcessBuilder(
+                    Paths.get(System.getProperty("java.home"), "bin", "java").toString(), LARGE_SHEET_HEAP,
+                    "-cp", System.getProperty("java.class.path"),
+                    CountRows.class.getName(), file.toString(), SHEET)
+                .redirectErrorStream(true)
+                .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            Assert.assertTrue(process.waitFor(120, TimeUnit.SECONDS), "Reader JVM did not finish");
+            Assert.assertEquals(process.exitValue(), 0, output);
+            Assert.assertTrue(output.contains("rows=" + LARGE_SHEET_ROWS), output);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Write a large sheet with a streaming workbook; the few distinct strings
+     * go to the shared strings table as in a workbook saved by Excel
+     */
+    private static void writeLargeSheet(Path file) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, 100, true, true);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            String[] columns = {"Id", "Browser", "Priority", "Timeout", "Enabled"};
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            String[] browsers = {"chrome", "firefox", "edge"};
+            String[] priorities = {"high", "medium", "low"};
+            for (int r = 1; r <= LARGE_SHEET_ROWS; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue(r);
+                row.createCell(1).setCellValue(browsers[r % browsers.length]);
+                row.createCell(2).setCellValue(priorities[r % priorities.length]);
+                row.createCell(3).setCellValue(r % 60);
+                row.createCell(4).setCellValue(r % 2 == 0);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Entry point of the capped-heap JVM: streams a sheet and prints the row count
+     */
+    public static final class CountRows {
+        public static void main(String[] args) throws Exception {
+            try (ExcelRowReader reader = ExcelRowReader.open(Paths.get(args[0]), args[1])) {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+                System.out.println("rows=" + reader.getRowsRead());
+            }
+        }
+    }
+}
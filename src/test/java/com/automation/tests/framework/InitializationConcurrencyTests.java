@@ -0,0 +1,179 @@
+package com.automation.tests.framework;
+
+import com.automation.framework.config.ConfigManager;
+import com.automation.framework.utils.ExtentReportManager;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress tests for lazy singleton initialization: many threads are
+ * released at the same moment and must all observe one fully initialized
+ * instance. Every round loads the framework classes in a fresh class
+ * loader, so each round races on a real first access instead of reading
+ * a singleton some earlier test already created. No browser is needed
+ * and nothing is written under reports/.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class InitializationConcurrencyTests {
+
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 20;
+    private static final String FRAMEWORK_PACKAGE = "com.automation.framework.";
+    private static final String CONFIG_FILE = "config.properties";
+
+    private URL isolatedConfig;
+
+    @BeforeClass(alwaysRun = true)
+    public void createIsolatedConfig() throws IOException {
+        // The suite configuration with report streaming turned off, so initReports only builds the report in memory
+        StringBuilder config = new StringBuilder();
+        try (InputStream input = getClass().getClassLoader().getResource(CONFIG_FILE).openStream()) {
+            config.append(new String(input.readAllBytes(), StandardCharsets.ISO_8859_1));
+        }
+        config.append(System.lineSeparator()).append("report.streaming.enabled=false")
+            .append(System.lineSeparator()).append("report.shard.id=")
+            .append(System.lineSeparator());
+        Path file = Files.createTempFile("concurrency-config", ".properties");
+        file.toFile().deleteOnExit();
+        Files.write(file, config.toString().getBytes(StandardCharsets.ISO_8859_1));
+        isolatedConfig = file.toUri().toURL();
+    }
+
+    @Test(description = "ConfigManager is created once and fully loaded under concurrent first access",
+          groups = {"framework"})
+    public void testConfigManagerConcurrentAccess() throws Exception {
+        hammer(loader -> {
+            Method getInstance = loader.loadClass(ConfigManager.class.getName()).getMethod("getInstance");
+            Method getProperty = getInstance.getDeclaringClass().getMethod("getProperty", String.class);
+            return () -> {
+                Object config = getInstance.invoke(null);
+                // Every caller must see the loaded properties, never a half-built instance
+                Assert.assertNotNull(getProperty.invoke(config, "browser.default"),
+                    "Config read before properties were loaded");
+                return config;
+            };
+        }, "ConfigManager was created more than once");
+    }
+
+    @Test(description = "initReports creates exactly one report under concurrent calls",
+          groups = {"framework"})
+    public void testInitReportsConcurrentAccess() throws Exception {
+        hammer(loader -> {
+            Class<?> manager = loader.loadClass(ExtentReportManager.class.getName());
+            Method initReports = manager.getMethod("initReports");
+            Method getReports = manager.getMethod("getReports");
+            return () -> {
+                initReports.invoke(null);
+                Object reports = getReports.invoke(null);
+                Assert.assertNotNull(reports, "initReports returned before the report was published");
+                return reports;
+            };
+        }, "initReports created more than one report");
+    }
+
+    /**
+     * Call a task from many threads released together by a barrier, several
+     * rounds in a row, each round against freshly loaded framework classes
+     * @param taskFactory Creates the task for one round from that round's class loader
+     * @param message Failure message when a round sees more than one instance
+     */
+    private void hammer(RoundTask taskFactory, String message) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Callable<Object> task;
+                try (IsolatedLoader loader = new IsolatedLoader(isolatedConfig)) {
+                    task = taskFactory.create(loader);
+                    CyclicBarrier barrier = new CyclicBarrier(THREADS);
+                    List<Future<Object>> futures = new ArrayList<>();
+                    for (int i = 0; i < THREADS; i++) {
+                        futures.add(executor.submit(() -> {
+                            barrier.await(10, TimeUnit.SECONDS);
+                            return task.call();
+                        }));
+                    }
+                    List<Object> results = new ArrayList<>();
+                    for (Future<Object> future : futures) {
+                        results.add(future.get(30, TimeUnit.SECONDS));
+                    }
+                    Assert.assertEquals(distinct(results).size(), 1, message + " in round " + (round + 1));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> Set<T> distinct(List<T> values) {
+        Set<T> identities = Collections.newSetFromMap(new IdentityHashMap<>());
+        identities.addAll(values);
+        return identities;
+    }
+
+    /**
+     * Builds the concurrent task of one round
+     */
+    private interface RoundTask {
+        Callable<Object> create(ClassLoader loader) throws Exception;
+    }
+
+    /**
+     * Loads framework classes itself instead of asking the parent, so their
+     * static state starts uninitialized, and serves the isolated config file.
+     * Libraries are shared with the parent loader.
+     */
+    private static final class IsolatedLoader extends URLClassLoader {
+        private final URL config;
+
+        IsolatedLoader(URL config) {
+            super(new URL[] {ConfigManager.class.getProtectionDomain().getCodeSource().getLocation()},
+                InitializationConcurrencyTests.class.getClassLoader());
+            this.config = config;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(FRAMEWORK_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    type = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(type);
+                }
+                return type;
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return CONFIG_FILE.equals(name) ? config : super.getResource(name);
+        }
+    }
+}
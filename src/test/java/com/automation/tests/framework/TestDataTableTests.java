@@ -0,0 +1,118 @@
+package com.automation.tests.framework;
+
+import com.automation.framework.utils.ExcelDataProvider;
+import com.automation.framework.utils.TestDataTable;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Behaviour tests for TestDataTable lookups against testdata.csv: result
+ * ordering of composite and multi-value lookups, and numeric versus
+ * alphabetic range queries. No browser is needed.
+ *
+ * @author Automation Framework
+ * @version 1.0
+ */
+public class TestDataTableTests {
+
+    private static final String TEST_DATA_FILE = "src/test/resources/testdata.csv";
+
+    private TestDataTable table;
+
+    @BeforeClass(alwaysRun = true)
+    public void loadTestData() {
+        table = new TestDataTable(ExcelDataProvider.readCsvData(TEST_DATA_FILE));
+        Assert.assertEquals(table.size(), 5, "Unexpected row count in " + TEST_DATA_FILE);
+    }
+
+    @Test(description = "Composite lookup returns rows in file order whatever the criteria order",
+          groups = {"framework"})
+    public void testCompositeKeyOrdering() {
+        Map<String, String> browserFirst = new LinkedHashMap<>();
+        browserFirst.put("Browser", "chrome");
+        browserFirst.put("Priority", "high");
+        Map<String, String> priorityFirst = new LinkedHashMap<>();
+        priorityFirst.put("Priority", "high");
+        priorityFirst.put("Browser", "chrome");
+
+        List<String> expected = Arrays.asList("testGoogleMapsPageLoad", "testRoutePlanning");
+        Assert.assertEquals(testCases(table.where(browserFirst)), expected);
+        Assert.assertEquals(testCases(table.where(priorityFirst)), expected);
+        Assert.assertEquals(testCases(table.where(new TreeMap<>(browserFirst))), expected);
+        Assert.assertTrue(table.where(Map.of("Browser", "firefox", "Priority", "high")).isEmpty(),
+            "Composite lookup must match all columns");
+    }
+
+    @Test(description = "whereIn returns each matching row once, in file order",
+          groups = {"framework"})
+    public void testWhereInOrdering() {
+        List<Map<String, String>> matches = table.whereIn("TestCase", Arrays.asList(
+            "testInvalidLocationSearch", "testGoogleMapsPageLoad", "missing", "testInvalidLocationSearch"));
+
+        Assert.assertEquals(testCases(matches), Arrays.asList("testGoogleMapsPageLoad", "testInvalidLocationSearch"));
+        Assert.assertEquals(testCases(table.whereIn("Priority", Arrays.asList("low", "high"))),
+            Arrays.asList("testGoogleMapsPageLoad", "testRoutePlanning", "testMapNavigation", "testInvalidLocationSearch"));
+    }
+
+    @Test(description = "between compares a text column alphabetically and orders rows by value",
+          groups = {"framework"})
+    public void testBetweenAlphabetic() {
+        Assert.assertEquals(testCases(table.between("TestCase", "testL", "testN")),
+            Arrays.asList("testLocationSearch", "testMapNavigation"));
+        // high < low < medium; rows with the same value stay in file order
+        Assert.assertEquals(testCases(table.between("Priority", "high", "low")),
+            Arrays.asList("testGoogleMapsPageLoad", "testRoutePlanning", "testMapNavigation", "testInvalidLocationSearch"));
+        Assert.assertEquals(testCases(table.between("Priority", "m", null)), Arrays.asList("testLocationSearch"));
+    }
+
+    @Test(description = "between compares an all-numeric column numerically",
+          groups = {"framework"})
+    public void testBetweenNumeric() {
+        TestDataTable numbers = numericTable("10", "9", "2.50", "100", "", "2");
+
+        // Alphabetically "10" and "100" would sort before "2"
+        Assert.assertEquals(values(numbers.between("Timeout", "2", "10")), Arrays.asList("2", "2.50", "9", "10"));
+        Assert.assertEquals(values(numbers.between("Timeout", "2.5", "2.5")), Arrays.asList("2.50"));
+        Assert.assertEquals(values(numbers.between("Timeout", null, "9")), Arrays.asList("2", "2.50", "9"));
+    }
+
+    @Test(description = "A non-numeric bound on a numeric column is rejected",
+          groups = {"framework"}, expectedExceptions = IllegalArgumentException.class)
+    public void testBetweenNonNumericBound() {
+        numericTable("10", "9", "2").between("Timeout", "two", "10");
+    }
+
+    private static TestDataTable numericTable(String... timeouts) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (String timeout : timeouts) {
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("Timeout", timeout);
+            rows.add(row);
+        }
+        return new TestDataTable(rows);
+    }
+
+    private static List<String> testCases(List<Map<String, String>> rows) {
+        return column(rows, "TestCase");
+    }
+
+    private static List<String> values(List<Map<String, String>> rows) {
+        return column(rows, "Timeout");
+    }
+
+    private static List<String> column(List<Map<String, String>> rows, String column) {
+        List<String> values = new ArrayList<>();
+        for (Map<String, String> row : rows) {
+            values.add(row.get(column));
+        }
+        return values;
+    }
+}